@@ -0,0 +1,72 @@
+package benchmark;
+
+import domain.queen.IQueen;
+import domain.queen.PhantomQueen;
+import domain.queen.Queen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The queens move as they search, so solve and advance start every invocation from a fresh chain
+ * with all queens on the first row; building it is a small part of the measured work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueenBenchmark {
+    @Param({"8", "10", "12"})
+    public int size;
+
+    private Queen solved;
+
+    @Setup
+    public void setUp() {
+        solved = chain(size);
+        solved.solve();
+    }
+
+    @Benchmark
+    public boolean solve() {
+        return chain(size).solve();
+    }
+
+    @Benchmark
+    public int advanceThroughAllSolutions() {
+        Queen queen = chain(size);
+        int solutions = 0;
+        if(queen.solve()) {
+            do {
+                solutions++;
+            } while(queen.advance());
+        }
+        return solutions;
+    }
+
+    @Benchmark
+    public void canAttack(Blackhole blackhole) {
+        for(int column = 0; column < size; column++) {
+            for(int row = 0; row < size; row++) {
+                blackhole.consume(solved.canAttack(row, column));
+            }
+        }
+    }
+
+    private static Queen chain(int size) {
+        IQueen queen = PhantomQueen.INSTANCE;
+        for(int column = 0; column < size; column++) {
+            queen = new Queen(0, column, queen, size);
+        }
+        return (Queen) queen;
+    }
+}
@@ -0,0 +1,36 @@
+package benchmark;
+
+import domain.manager.QueenManager;
+import domain.queen.Queen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueenManagerBenchmark {
+    // N! lists of N boxed rows: 10 already needs a large heap.
+    @Param({"6", "8"})
+    public int size;
+
+    @Benchmark
+    public List<List<Integer>> generateAllPermutations() {
+        return QueenManager.generateAllPermutations(size);
+    }
+
+    @Benchmark
+    public List<Queen> generateAllPlacements() {
+        return QueenManager.generateAllPlacements(size);
+    }
+}
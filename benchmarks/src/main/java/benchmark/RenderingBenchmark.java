@@ -0,0 +1,139 @@
+package benchmark;
+
+import domain.manager.FENManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tabula.ChessBoardContext;
+import tabula.Coloring;
+import tabula.board.ChessBoard;
+import tabula.board.LayeredBoard;
+import tabula.fen.FENParser;
+import tabula.pieces.Chessman;
+import tabula.pieces.PieceSets;
+import tabula.pieces.PieceType;
+
+import javax.swing.JComponent;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * The Swing board, built and painted headless into a BufferedImage. Every operation is one board
+ * (or one chessman), so the throughput reads as boards per second and the GC profiler's
+ * gc.alloc.rate.norm as bytes allocated per board.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderingBenchmark {
+    /** Side of the painted board in pixels. */
+    @Param({"240", "480", "960"})
+    public int pixels;
+
+    private String fen;
+    private ChessBoard chessBoard;
+    private LayeredBoard layeredBoard;
+    private FENParser parser;
+    private Chessman chessman;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        fen = FENManager.distinct().get(0);
+
+        chessBoard = new ChessBoard(Color.WHITE, Color.BLUE, Coloring.LIGHT);
+        parser = new FENParser(PieceSets.ARIAL, chessBoard);
+        parser.parse(fen);
+        layeredBoard = new LayeredBoard(chessBoard);
+        layOut(layeredBoard, pixels);
+
+        chessman = parser.makeChessman(Coloring.LIGHT, PieceType.QUEEN);
+        chessman.setSize(pixels / 8, pixels / 8);
+
+        image = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @State(Scope.Thread)
+    public static class EmptyBoard {
+        private ChessBoard board;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            board = new ChessBoard(Color.WHITE, Color.BLUE, Coloring.LIGHT);
+        }
+    }
+
+    @Benchmark
+    public JComponent boardView() {
+        return new ChessBoardContext()
+                .setPositionFEN(fen)
+                .setColors(Color.BLUE, Color.WHITE)
+                .setPieceImageSet(PieceSets.ARIAL)
+                .getBoardView();
+    }
+
+    @Benchmark
+    public ChessBoard parse(EmptyBoard empty) {
+        new FENParser(PieceSets.ARIAL, empty.board).parse(fen);
+        return empty.board;
+    }
+
+    @Benchmark
+    public String getFEN() {
+        return parser.getFEN();
+    }
+
+    @Benchmark
+    public BufferedImage paintLayeredBoard() {
+        layeredBoard.paint(graphics);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage paintChessBoard() {
+        chessBoard.paint(graphics);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage paintChessman() {
+        chessman.paintComponent(graphics);
+        return image;
+    }
+
+    private static void layOut(Component component, int pixels) {
+        component.setSize(pixels, pixels);
+        doLayout(component);
+    }
+
+    private static void doLayout(Component component) {
+        if(component instanceof Container) {
+            Container container = (Container) component;
+            container.doLayout();
+            for(Component child : container.getComponents()) {
+                doLayout(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package benchmark;
+
+import domain.FENTranslator;
+import domain.Solution;
+import domain.manager.SolutionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SolutionBenchmark {
+    @Param({"8", "12", "16"})
+    public int size;
+
+    private Solution solution;
+    private List<Integer> rows;
+
+    @Setup
+    public void setUp() {
+        solution = SolutionManager.iterator(size).next();
+        rows = solution.getSolutionList();
+    }
+
+    @Benchmark
+    public Solution rotateBy90() {
+        return solution.rotateBy90();
+    }
+
+    @Benchmark
+    public Solution rotateBy180() {
+        return solution.rotateBy180();
+    }
+
+    @Benchmark
+    public Solution rotateBy270() {
+        return solution.rotateBy270();
+    }
+
+    @Benchmark
+    public Solution reflect() {
+        return solution.reflect();
+    }
+
+    @Benchmark
+    public String fen() {
+        return new FENTranslator(rows, size).fen();
+    }
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import domain.Solution;
+import domain.manager.QueenManager;
+import domain.manager.SolutionManager;
+import domain.queen.Queen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SolutionManagerBenchmark {
+    @Param({"8", "10"})
+    public int size;
+
+    private List<Queen> placements;
+
+    @Setup
+    public void setUp() {
+        placements = QueenManager.generateAllPlacements(size);
+    }
+
+    @Benchmark
+    public List<Solution> all() {
+        return SolutionManager.all(placements);
+    }
+
+    @Benchmark
+    public List<Solution> distinct() {
+        return SolutionManager.distinct(placements);
+    }
+
+    @Benchmark
+    public List<Solution> unique() {
+        return SolutionManager.unique(placements);
+    }
+}
@@ -1,5 +1,12 @@
+import java.nio.file.Paths;
+
 public class MainSpike {
     public static void main(String ... args) {
+        if(args.length == 2 && args[0].contains("s")) {
+            System.out.println("Starting GUI, solutions stored in " + args[1] + " ...");
+            Runner.INSTANCE.generateStored(Paths.get(args[1]));
+            return;
+        }
         if(args.length != 1) {
             throw new IllegalArgumentException();
         }
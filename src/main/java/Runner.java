@@ -1,11 +1,16 @@
 import connector.Connector;
 import domain.manager.FENManager;
 import domain.manager.MetadataManager;
+import domain.store.SolutionStore;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -56,6 +61,48 @@ public class Runner {
         };
     }
 
+    /**
+     * A board for each solution of the store, built only when it is asked for, as the store may hold far
+     * more solutions than boards fit on the heap.
+     */
+    public List<JComponent> allStoredSolutions(final SolutionStore store) {
+        return new AbstractList<JComponent>() {
+            @Override
+            public JComponent get(int k) {
+                return Connector.connect(FENManager.stored(store, k));
+            }
+
+            @Override
+            public int size() {
+                return (int) Math.min(store.count(), Integer.MAX_VALUE);
+            }
+        };
+    }
+
+    public JFrame generateStored(final Path path) {
+        final SolutionStore store = SolutionStore.open(path);
+        return new ChessFrame() {
+            {
+                addWindowListener(new WindowAdapter() {
+                    @Override
+                    public void windowClosing(WindowEvent e) {
+                        store.close();
+                    }
+                });
+            }
+
+            @Override
+            protected List<JComponent> getSolutions() {
+                return allStoredSolutions(store);
+            }
+
+            @Override
+            protected String getInfoText() {
+                return "Solution : " + current + " of " + store.getPath().getFileName();
+            }
+        };
+    }
+
     public JFrame generateUnique() {
         return new ChessFrame() {
 
@@ -74,6 +121,7 @@ public class Runner {
     private abstract static class ChessFrame extends JFrame {
             protected List<JComponent> components;
             protected int current;
+            private JComponent shown;
 
             private JButton next;
             private JButton prev;
@@ -85,7 +133,8 @@ public class Runner {
                 components = getSolutions();
                 current = 0;
                 getContentPane().setLayout(new BorderLayout());
-                add(components.get(current), BorderLayout.CENTER);
+                shown = components.get(current);
+                add(shown, BorderLayout.CENTER);
 
                 next = new JButton(">");
                 prev = new JButton("<");
@@ -147,9 +196,10 @@ public class Runner {
         protected abstract String getInfoText();
 
         private void clickHandler(ICallback currentCallback) {
-            remove(components.get(current));
+            remove(shown);
             currentCallback.eval();
-            add(components.get(current));
+            shown = components.get(current);
+            add(shown);
             info.setText(getInfoText());
             validate();
             repaint();
@@ -1,5 +1,8 @@
 package connector;
 
+import domain.metrics.MetricsRegistry;
+import tabula.BoardConstructionEvent;
+
 import javax.swing.*;
 
 public class Connector {
@@ -7,7 +10,23 @@ public class Connector {
     private static IConnectMethod connectMethod = new ConnectMethod();
 
     public static JComponent connect(String s) {
-        return connectMethod.invoke(s);
+        BoardConstructionEvent event = new BoardConstructionEvent();
+        event.begin();
+        long started = System.nanoTime();
+        JComponent board = connectMethod.invoke(s);
+        event.commit("Connector.connect", s);
+        MetricsRegistry.INSTANCE.time("Connector.connect", ranks(s), started);
+        return board;
+    }
+
+    private static int ranks(String fen) {
+        int ranks = 1;
+        for(int i = 0; i < fen.length() && fen.charAt(i) != ' '; i++) {
+            if(fen.charAt(i) == '/') {
+                ranks++;
+            }
+        }
+        return ranks;
     }
 
     public static void setConnectMethod(IConnectMethod connectMethod) {
@@ -2,26 +2,48 @@ package domain;
 
 import domain.exceptions.FENTranslatorException;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class FENTranslator {
     private List<Integer> solutionList;
+    private int size;
 
     public FENTranslator(List<Integer> solutionList) {
-        if(solutionList.size() != 8) throw new FENTranslatorException();
+        this(solutionList, Solution.DEFAULT_SIZE);
+    }
+
+    public FENTranslator(List<Integer> solutionList, int size) {
+        if(solutionList.size() != size) throw new FENTranslatorException();
         this.solutionList = solutionList;
+        this.size = size;
     }
 
     public String fen() {
-        StringBuffer sb = new StringBuffer();
-        for(int i = 0; i < 8; i++) {
-            int position = solutionList.lastIndexOf(i) + 1;
-            int prepend = position - 1;
-            int append = 8 - position;
-            sb.append(i==0  ? "" : "/")
-                    .append(prepend == 0 ? "" : prepend)
-                    .append("Q")
-                    .append(append == 0 ? "" : append);
+        int[] columns = new int[size];
+        Arrays.fill(columns, -1);
+        int column = 0;
+        for(Integer row : solutionList) {
+            if(row != null && row >= 0 && row < size) {
+                columns[row] = column;
+            }
+            column++;
+        }
+
+        StringBuilder sb = new StringBuilder(size * 6);
+        for(int i = 0; i < size; i++) {
+            int prepend = columns[i];
+            int append = size - 1 - columns[i];
+            if(i != 0) {
+                sb.append('/');
+            }
+            if(prepend != 0) {
+                sb.append(prepend);
+            }
+            sb.append('Q');
+            if(append != 0) {
+                sb.append(append);
+            }
         }
         return sb.toString();
     }
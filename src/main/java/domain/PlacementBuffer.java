@@ -0,0 +1,90 @@
+package domain;
+
+/**
+ * The rows of queens placed so far, column by column, for a search to push and pop in place.
+ * Each thread has one buffer to reuse; a {@link Solution} is only made when a caller takes a snapshot.
+ */
+public final class PlacementBuffer {
+    private static final ThreadLocal<PlacementBuffer> BUFFERS = new ThreadLocal<PlacementBuffer>() {
+        @Override
+        protected PlacementBuffer initialValue() {
+            return new PlacementBuffer(Solution.DEFAULT_SIZE);
+        }
+    };
+
+    private int[] rows;
+    private int size;
+    private int depth;
+
+    public PlacementBuffer(int size) {
+        rows = new int[size];
+        this.size = size;
+    }
+
+    /**
+     * The buffer of the current thread, emptied and sized for the board.
+     */
+    public static PlacementBuffer forThread(int size) {
+        PlacementBuffer buffer = BUFFERS.get();
+        buffer.reset(size);
+        return buffer;
+    }
+
+    public void reset(int size) {
+        if(rows.length < size) {
+            rows = new int[size];
+        }
+        this.size = size;
+        depth = 0;
+    }
+
+    public void push(int row) {
+        if(depth == size) {
+            throw new IllegalStateException("all " + size + " queens are placed");
+        }
+        if(row < 0 || row >= size) {
+            throw new IllegalArgumentException("the row of queen should be 0 to " + (size - 1));
+        }
+        rows[depth++] = row;
+    }
+
+    /**
+     * Takes back the last queen placed and returns its row.
+     */
+    public int pop() {
+        if(depth == 0) {
+            throw new IllegalStateException("no queen is placed");
+        }
+        return rows[--depth];
+    }
+
+    public int row(int column) {
+        if(column >= depth) {
+            throw new IndexOutOfBoundsException("no queen is placed in column " + column);
+        }
+        return rows[column];
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isComplete() {
+        return depth == size;
+    }
+
+    /**
+     * A solution of the queens placed so far, independent of later changes to the buffer.
+     */
+    public Solution snapshot() {
+        Solution solution = new Solution(size);
+        for(int column = 0; column < depth; column++) {
+            solution.augment(rows[column]);
+        }
+        return solution;
+    }
+}
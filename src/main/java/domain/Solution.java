@@ -2,78 +2,289 @@ package domain;
 
 import domain.exceptions.SolutionException;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * Rows of the queens, one per column, packed into a byte per queen, or an int per queen on boards
+ * larger than {@link #MAX_NARROW_SIZE}. The hash code is maintained as queens are added and the
+ * metadata stores are only allocated once something is recorded in them.
+ */
 public class Solution {
-    private List<Integer> solutionList;
+    public static final int DEFAULT_SIZE = 8;
+    public static final int MAX_PACKED_SIZE = 16;
+    public static final int MAX_NARROW_SIZE = Byte.MAX_VALUE + 1;
+
+    private static final Symmetry[] SYMMETRIES = Symmetry.values();
+
+    private byte[] rows;
+    private int[] wideRows;
+    private int length;
+    private int hash = 1;
     private List<List<Integer>> metadata;
+    private int size;
+
+    public Solution() {
+        this(DEFAULT_SIZE);
+    }
 
-    {
-        metadata = new LinkedList<List<Integer>>();
+    public Solution(int size) {
+        allocate(size);
+        this.size = size;
+    }
 
-        for(int i = 0; i < 7; i++) {
-            metadata.add(new LinkedList<Integer>());
+    public Solution(List<Integer> list) {
+        this(list, DEFAULT_SIZE);
+    }
+
+    public Solution(byte[] rows, int size) {
+        this(size);
+        if(rows.length > size) throw new SolutionException();
+        for(byte row : rows) {
+            augment(row);
         }
     }
 
-    public Solution() {
-        solutionList = new LinkedList<Integer>();
+    private Solution(byte[] rows) {
+        this.rows = rows;
+        this.size = rows.length;
+        this.length = rows.length;
+        for(byte row : rows) {
+            hash = 31 * hash + row;
+        }
     }
 
-    public Solution(List<Integer> list) {
-        if(list.size() > 8) throw new SolutionException();
-        solutionList = list;
+    private Solution(int[] wideRows) {
+        this.wideRows = wideRows;
+        this.size = wideRows.length;
+        this.length = wideRows.length;
+        for(int row : wideRows) {
+            hash = 31 * hash + row;
+        }
+    }
+
+    public Solution(List<Integer> list, int size) {
+        if(list.size() > size) throw new SolutionException();
+        allocate(size);
+        this.size = size;
+        for(Integer row : list) {
+            augment(row);
+        }
     }
 
     public List<Integer> getSolutionList() {
-        if(solutionList.size() != 8) throw new SolutionException();
-        return solutionList;
+        checkComplete();
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int i) {
+                return Solution.this.get(i);
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+        };
     }
 
     public void augment(int i) {
-        if(solutionList.size() == 8) throw new SolutionException();
-        solutionList.add(i);
+        if(length == size) throw new SolutionException();
+        if(i < 0 || i >= size) throw new SolutionException();
+        if(rows != null) {
+            rows[length++] = (byte) i;
+        } else {
+            wideRows[length++] = i;
+        }
+        hash = 31 * hash + i;
+    }
+
+    private void allocate(int size) {
+        if(size > MAX_NARROW_SIZE) {
+            rows = null;
+            wideRows = new int[size];
+        } else {
+            rows = new byte[size];
+            wideRows = null;
+        }
     }
 
     public int getSize() {
-        return solutionList.size();
+        return length;
+    }
+
+    public int getBoardSize() {
+        return size;
+    }
+
+    public void setBoardSize(int size) {
+        if(length > size) throw new SolutionException();
+        if(rows != null && size <= MAX_NARROW_SIZE) {
+            rows = Arrays.copyOf(rows, size);
+        } else if(wideRows != null && size > MAX_NARROW_SIZE) {
+            wideRows = Arrays.copyOf(wideRows, size);
+        } else {
+            byte[] narrow = rows;
+            int[] wide = wideRows;
+            allocate(size);
+            for(int i = 0; i < length; i++) {
+                int row = narrow != null ? narrow[i] : wide[i];
+                if(rows != null) {
+                    rows[i] = (byte) row;
+                } else {
+                    wideRows[i] = row;
+                }
+            }
+        }
+        this.size = size;
+    }
+
+    private void checkComplete() {
+        if(length != size) throw new SolutionException();
+    }
+
+    public int row(int i) {
+        if(i >= length) throw new IndexOutOfBoundsException();
+        return rows != null ? rows[i] : wideRows[i];
+    }
+
+    /**
+     * Four bits per row, the row of the first column in the lowest bits.
+     */
+    public long pack() {
+        checkComplete();
+        if(size > MAX_PACKED_SIZE) throw new SolutionException();
+        long packed = 0;
+        for(int i = 0; i < size; i++) {
+            packed |= (long) rows[i] << (4 * i);
+        }
+        return packed;
+    }
+
+    public static Solution unpack(long packed, int size) {
+        if(size > MAX_PACKED_SIZE) throw new SolutionException();
+        Solution solution = new Solution(size);
+        for(int i = 0; i < size; i++) {
+            solution.augment((int) (packed >>> (4 * i)) & 0xF);
+        }
+        return solution;
     }
 
     public Integer get(int i) {
-        return solutionList.get(i);
+        return row(i);
     }
 
     public Solution rotateBy90() {
-        List<Integer> result = new LinkedList<Integer>();
-        for(int i = 0; i <  getSolutionList().size(); i ++) {
-             result.add(7 - getSolutionList().lastIndexOf(i));
-        }
-        return new Solution(result);
+        return transform(Symmetry.T90);
     }
 
     public Solution rotateBy180() {
-        List<Integer> result = new LinkedList<Integer>();
-        for(int i = 0; i <  getSolutionList().size(); i ++) {
-            result.add(7 - getSolutionList().get(7 - i));
-        }
-        return new Solution(result);
+        return transform(Symmetry.T180);
     }
 
     public Solution rotateBy270() {
-        List<Integer> result = new LinkedList<Integer>();
-        for(int i = 0; i <  getSolutionList().size(); i ++) {
-            result.add(getSolutionList().lastIndexOf(7 - i));
-        }
-        return new Solution(result);
+        return transform(Symmetry.T270);
     }
 
     public Solution reflect() {
-        List<Integer> result = new LinkedList<Integer>();
-        for(int i = 0; i <  getSolutionList().size(); i ++) {
-            result.add(getSolutionList().get(7 - i));
+        return transform(Symmetry.R0);
+    }
+
+    public Solution transform(Symmetry symmetry) {
+        checkComplete();
+        if(rows == null) {
+            return new Solution(symmetry.apply(wideRows, new int[size]));
+        }
+        return new Solution(symmetry.apply(rows, new byte[size]));
+    }
+
+    /**
+     * Writes the rows of the image of this solution under the symmetry into {@code target}.
+     */
+    public int[] image(Symmetry symmetry, int[] target) {
+        checkComplete();
+        if(target.length != size) throw new SolutionException();
+        for(int column = 0; column < size; column++) {
+            int row = row(column);
+            target[symmetry.column(column, row, size)] = symmetry.row(column, row, size);
+        }
+        return target;
+    }
+
+    /**
+     * Whether this is the complete solution with these rows.
+     */
+    public boolean matches(int[] rows) {
+        if(length != size || size != rows.length) return false;
+        for(int i = 0; i < length; i++) {
+            if(row(i) != rows[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the seven images of this solution into {@code images}, indexed as the {@link MetaKey}s,
+     * where the reflections are those of {@link #reflect()} followed by the rotation. Only boards up to
+     * {@link #MAX_NARROW_SIZE} have images of bytes.
+     */
+    public void images(byte[][] images) {
+        if(images.length != MetaKey.values().length) throw new SolutionException();
+        checkComplete();
+        if(rows == null) throw new SolutionException();
+        for(MetaKey key : MetaKey.values()) {
+            Symmetry.of(key).apply(rows, images[key.getMetaIndex()]);
+        }
+    }
+
+    /**
+     * The lexicographically smallest of the eight images of this solution under rotation and reflection,
+     * each written over the same scratch rows and kept only when it is smaller than the best so far.
+     */
+    public Solution canonical() {
+        checkComplete();
+        if(rows == null) {
+            return wideCanonical();
+        }
+        byte[] best = rows.clone();
+        byte[] image = new byte[size];
+        for(Symmetry symmetry : SYMMETRIES) {
+            symmetry.apply(rows, image);
+            for(int j = 0; j < size; j++) {
+                if(image[j] != best[j]) {
+                    if(image[j] < best[j]) {
+                        byte[] swap = best;
+                        best = image;
+                        image = swap;
+                    }
+                    break;
+                }
+            }
+        }
+
+        return new Solution(best);
+    }
+
+    private Solution wideCanonical() {
+        int[] best = wideRows.clone();
+        int[] image = new int[size];
+        for(Symmetry symmetry : SYMMETRIES) {
+            symmetry.apply(wideRows, image);
+            for(int j = 0; j < size; j++) {
+                if(image[j] != best[j]) {
+                    if(image[j] < best[j]) {
+                        int[] swap = best;
+                        best = image;
+                        image = swap;
+                    }
+                    break;
+                }
+            }
         }
-        return new Solution(result);
+
+        return new Solution(best);
     }
 
     @Override
@@ -83,24 +294,47 @@ public class Solution {
 
         Solution solution = (Solution) o;
 
-        return !(solutionList != null ? !solutionList.equals(solution.solutionList) : solution.solutionList != null);
+        if(size != solution.size || length != solution.length || hash != solution.hash) return false;
+        if(rows != null) {
+            for(int i = 0; i < length; i++) {
+                if(rows[i] != solution.rows[i]) return false;
+            }
+        } else {
+            for(int i = 0; i < length; i++) {
+                if(wideRows[i] != solution.wideRows[i]) return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return solutionList != null ? solutionList.hashCode() : 0;
+        return hash;
     }
 
     public List<Integer> getMetadata(MetaKey key) {
+        if(metadata == null) {
+            return Collections.emptyList();
+        }
         return metadata.get(key.getMetaIndex());
     }
 
     public List<List<Integer>> getMetadata() {
-        return metadata;
+        return metadata();
     }
 
     public void addMetadata(MetaKey key, int i) {
-        metadata.get(key.getMetaIndex()).add(i);
+        metadata().get(key.getMetaIndex()).add(i);
+    }
+
+    private List<List<Integer>> metadata() {
+        if(metadata == null) {
+            metadata = new ArrayList<List<Integer>>(MetaKey.values().length);
+            for(int i = 0; i < MetaKey.values().length; i++) {
+                metadata.add(new LinkedList<Integer>());
+            }
+        }
+        return metadata;
     }
 
     public enum MetaKey {
@@ -0,0 +1,151 @@
+package domain;
+
+import domain.exceptions.SolutionException;
+
+/**
+ * The eight symmetries of the square board. Each moves the queen at column c and row r by optionally
+ * swapping the two, then optionally mirroring the column and the row, so that any of them transforms a
+ * solution in one pass, scattering each queen straight to its place in the image. The reflections are
+ * those of {@link Solution#reflect()} followed by the rotation, as the {@link Solution.MetaKey}s.
+ */
+public enum Symmetry {
+    IDENTITY(false, false, false, null),
+    T90(true, false, true, Solution.MetaKey.T90),
+    T180(false, true, true, Solution.MetaKey.T180),
+    T270(true, true, false, Solution.MetaKey.T270),
+    R0(false, true, false, Solution.MetaKey.R0),
+    R90(true, false, false, Solution.MetaKey.R90),
+    R180(false, false, true, Solution.MetaKey.R180),
+    R270(true, true, true, Solution.MetaKey.R270);
+
+    private static final Symmetry[] VALUES = values();
+    private static final Symmetry[][] COMPOSITION = new Symmetry[8][8];
+    private static final Symmetry[] INVERSE = new Symmetry[8];
+
+    static {
+        for(Symmetry first : values()) {
+            for(Symmetry second : values()) {
+                for(Symmetry result : values()) {
+                    if(result.movesLike(first, second)) {
+                        COMPOSITION[first.ordinal()][second.ordinal()] = result;
+                        if(result == IDENTITY) {
+                            INVERSE[first.ordinal()] = second;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private final boolean swapped;
+    private final boolean columnMirrored;
+    private final boolean rowMirrored;
+    private final Solution.MetaKey key;
+
+    Symmetry(boolean swapped, boolean columnMirrored, boolean rowMirrored, Solution.MetaKey key) {
+        this.swapped = swapped;
+        this.columnMirrored = columnMirrored;
+        this.rowMirrored = rowMirrored;
+        this.key = key;
+    }
+
+    /**
+     * The metadata key of this symmetry, {@code null} for the identity.
+     */
+    public Solution.MetaKey getMetaKey() {
+        return key;
+    }
+
+    public static Symmetry of(Solution.MetaKey key) {
+        return VALUES[key.getMetaIndex() + 1];
+    }
+
+    /**
+     * The symmetry moving the board as this one followed by {@code next}.
+     */
+    public Symmetry then(Symmetry next) {
+        return COMPOSITION[ordinal()][next.ordinal()];
+    }
+
+    public Symmetry inverse() {
+        return INVERSE[ordinal()];
+    }
+
+    public int column(int column, int row, int size) {
+        int moved = swapped ? row : column;
+        return columnMirrored ? size - 1 - moved : moved;
+    }
+
+    public int row(int column, int row, int size) {
+        int moved = swapped ? column : row;
+        return rowMirrored ? size - 1 - moved : moved;
+    }
+
+    /**
+     * Writes the image of the rows into {@code target}, which must not be {@code rows} itself.
+     */
+    public byte[] apply(byte[] rows, byte[] target) {
+        int size = rows.length;
+        if(target.length != size || target == rows) throw new SolutionException();
+        for(int column = 0; column < size; column++) {
+            int row = rows[column];
+            target[column(column, row, size)] = (byte) row(column, row, size);
+        }
+        return target;
+    }
+
+    public int[] apply(int[] rows, int[] target) {
+        int size = rows.length;
+        if(target.length != size || target == rows) throw new SolutionException();
+        for(int column = 0; column < size; column++) {
+            int row = rows[column];
+            target[column(column, row, size)] = row(column, row, size);
+        }
+        return target;
+    }
+
+    /**
+     * The image of a solution packed as by {@link Solution#pack()}, looking each queen's contribution to
+     * the image up in the table of this symmetry for the board size.
+     */
+    public long apply(long packed, int size) {
+        if(size < 1 || size > Solution.MAX_PACKED_SIZE) throw new SolutionException();
+        long[] table = Tables.PACKED[size][ordinal()];
+        long image = 0;
+        for(int column = 0; column < size; column++) {
+            image |= table[column * size + (int) (packed >>> (4 * column) & 0xF)];
+        }
+        return image;
+    }
+
+    private boolean movesLike(Symmetry first, Symmetry second) {
+        // No two symmetries move this square of an 11 by 11 board alike
+        int size = 11;
+        int column = first.column(1, 2, size);
+        int row = first.row(1, 2, size);
+        return column(1, 2, size) == second.column(column, row, size)
+                && row(1, 2, size) == second.row(column, row, size);
+    }
+
+    /**
+     * Per board size and symmetry, the packed image of the queen at each column and row.
+     */
+    private static final class Tables {
+        static final long[][][] PACKED = new long[Solution.MAX_PACKED_SIZE + 1][][];
+
+        static {
+            for(int size = 1; size <= Solution.MAX_PACKED_SIZE; size++) {
+                PACKED[size] = new long[8][size * size];
+                for(Symmetry symmetry : values()) {
+                    long[] table = PACKED[size][symmetry.ordinal()];
+                    for(int column = 0; column < size; column++) {
+                        for(int row = 0; row < size; row++) {
+                            table[column * size + row] = (long) symmetry.row(column, row, size)
+                                    << (4 * symmetry.column(column, row, size));
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
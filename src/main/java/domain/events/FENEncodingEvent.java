@@ -0,0 +1,31 @@
+package domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("queens.FENEncoding")
+@Label("FEN Encoding")
+@Description("Translating a list of solutions into FEN strings")
+@Category({"N-Queens", "FEN"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class FENEncodingEvent extends Event {
+    @Label("Board Size")
+    int size;
+
+    @Label("Solutions")
+    int count;
+
+    public void commit(int size, int count) {
+        if(shouldCommit()) {
+            this.size = size;
+            this.count = count;
+            commit();
+        }
+    }
+}
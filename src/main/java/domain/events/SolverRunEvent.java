@@ -0,0 +1,35 @@
+package domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("queens.SolverRun")
+@Label("Solver Run")
+@Description("A search of all the solutions of a board")
+@Category({"N-Queens", "Solver"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class SolverRunEvent extends Event {
+    @Label("Board Size")
+    int size;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Solutions")
+    long count;
+
+    public void commit(int size, String mode, long count) {
+        if(shouldCommit()) {
+            this.size = size;
+            this.mode = mode;
+            this.count = count;
+            commit();
+        }
+    }
+}
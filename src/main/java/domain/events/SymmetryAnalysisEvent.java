@@ -0,0 +1,39 @@
+package domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("queens.SymmetryAnalysis")
+@Label("Symmetry Analysis")
+@Description("Marking the symmetries of solutions, or keeping one solution of each symmetry class")
+@Category({"N-Queens", "Symmetry"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class SymmetryAnalysisEvent extends Event {
+    @Label("Board Size")
+    int size;
+
+    @Label("Analysis")
+    String analysis;
+
+    @Label("Solutions In")
+    int solutions;
+
+    @Label("Solutions Out")
+    int result;
+
+    public void commit(int size, String analysis, int solutions, int result) {
+        if(shouldCommit()) {
+            this.size = size;
+            this.analysis = analysis;
+            this.solutions = solutions;
+            this.result = result;
+            commit();
+        }
+    }
+}
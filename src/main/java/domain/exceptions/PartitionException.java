@@ -0,0 +1,11 @@
+package domain.exceptions;
+
+public class PartitionException extends RuntimeException {
+    public PartitionException(String message) {
+        super(message);
+    }
+
+    public PartitionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
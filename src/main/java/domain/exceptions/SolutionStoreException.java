@@ -0,0 +1,11 @@
+package domain.exceptions;
+
+public class SolutionStoreException extends RuntimeException {
+    public SolutionStoreException(String message) {
+        super(message);
+    }
+
+    public SolutionStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
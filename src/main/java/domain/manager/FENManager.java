@@ -0,0 +1,80 @@
+package domain.manager;
+
+import domain.FENTranslator;
+import domain.Solution;
+import domain.events.FENEncodingEvent;
+import domain.metrics.MetricsRegistry;
+import domain.store.SolutionStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class FENManager {
+    public static List<String> distinct() {
+        return distinct(Solution.DEFAULT_SIZE);
+    }
+
+    public static List<String> distinct(int size) {
+        long started = System.nanoTime();
+        List<String> fenStrings = SolutionCatalog.INSTANCE.get(size).getDistinctFEN();
+        MetricsRegistry.INSTANCE.time("FENManager.distinct", size, started);
+        return fenStrings;
+    }
+
+    public static List<String> stored(SolutionStore store) {
+        FENEncodingEvent event = new FENEncodingEvent();
+        event.begin();
+        List<String> fenStrings = new ArrayList<String>();
+        for(Solution solution : store) {
+            fenStrings.add(fen(solution));
+        }
+        event.commit(store.getSize(), fenStrings.size());
+        return fenStrings;
+    }
+
+    /**
+     * The FEN string of solution {@code k} of the store alone, for viewers paging through it.
+     */
+    public static String stored(SolutionStore store, long k) {
+        return fen(store.get(k));
+    }
+
+    public static Stream<String> stream(int size) {
+        return SolutionManager.stream(size).map(new Function<Solution, String>() {
+            @Override
+            public String apply(Solution solution) {
+                return fen(solution);
+            }
+        });
+    }
+
+    static List<String> fenStrings(List<Solution> solutions) {
+        FENEncodingEvent event = new FENEncodingEvent();
+        event.begin();
+        List<String> fenStrings = new ArrayList<String>(solutions.size());
+        for(Solution solution : solutions) {
+            fenStrings.add(fen(solution));
+        }
+        event.commit(solutions.isEmpty() ? 0 : solutions.get(0).getBoardSize(), fenStrings.size());
+
+        return fenStrings;
+    }
+
+    private static String fen(Solution solution) {
+        FENTranslator translator = new FENTranslator(solution.getSolutionList(), solution.getBoardSize());
+        return translator.fen();
+    }
+
+    public static List<String> unique() {
+        return unique(Solution.DEFAULT_SIZE);
+    }
+
+    public static List<String> unique(int size) {
+        long started = System.nanoTime();
+        List<String> fenStrings = SolutionCatalog.INSTANCE.get(size).getUniqueFEN();
+        MetricsRegistry.INSTANCE.time("FENManager.unique", size, started);
+        return fenStrings;
+    }
+}
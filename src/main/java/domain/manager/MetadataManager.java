@@ -1,6 +1,7 @@
 package domain.manager;
 
 import domain.Solution;
+import domain.metrics.MetricsRegistry;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -28,6 +29,14 @@ public class MetadataManager {
 
     // Untested method, using the tested API.
     public static List<String> external() {
-        return MetadataManager.all(SolutionManager.distinct(QueenManager.generateAllPlacements()));
+        return external(Solution.DEFAULT_SIZE);
+    }
+
+    // Untested method, using the tested API.
+    public static List<String> external(int size) {
+        long started = System.nanoTime();
+        List<String> metadata = SolutionCatalog.INSTANCE.get(size).getMetadata();
+        MetricsRegistry.INSTANCE.time("MetadataManager.external", size, started);
+        return metadata;
     }
 }
@@ -1,64 +1,72 @@
 package domain.manager;
 
+import domain.Solution;
+import domain.events.SolverRunEvent;
 import domain.queen.IQueen;
 import domain.queen.PhantomQueen;
 import domain.queen.Queen;
+import domain.solver.PermutationSpliterator;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class QueenManager {
 
     public static List<List<Integer>> generateAllPermutations() {
-        return innerGenerateAllPermutations(
-                new LinkedList<Integer>()
-                {{add(0); add(1); add(2); add(3); add(4); add(5); add(6); add(7);}},
-                new LinkedList<Integer>(),
-                new LinkedList<List<Integer>>(){{add(new LinkedList<Integer>());}});
+        return generateAllPermutations(Solution.DEFAULT_SIZE);
     }
 
-    private static List<List<Integer>> innerGenerateAllPermutations
-            (List<Integer> unused,
-             List<Integer> used,
-             List<List<Integer>> partialPermutations) {
-        if(unused.size() == 0) {
-            return partialPermutations;
-        }
-        List<List<Integer>> cumulative = new LinkedList<List<Integer>>();
-        for(Integer integer : unused) {
-            List<List<Integer>> newPartialPermutations = new LinkedList<List<Integer>>();
-            for(List<Integer> partialPermutation : partialPermutations) {
-                LinkedList<Integer> newPartialPermutation = new LinkedList<Integer>(partialPermutation);
-                newPartialPermutation.add(integer);
-                newPartialPermutations.add(newPartialPermutation);
+    public static List<List<Integer>> generateAllPermutations(int size) {
+        final List<List<Integer>> permutations = new LinkedList<List<Integer>>();
+        new PermutationSpliterator(size, false).forEachRemaining(new Consumer<int[]>() {
+            @Override
+            public void accept(int[] permutation) {
+                List<Integer> list = new LinkedList<Integer>();
+                for(int row : permutation) {
+                    list.add(row);
+                }
+                permutations.add(list);
             }
-
-            List<Integer> newUnused = new LinkedList<Integer>(unused);
-            newUnused.remove(integer);
-            List<Integer> newUsed = new LinkedList<Integer>(used);
-            newUsed.add(integer);
-            cumulative.addAll(innerGenerateAllPermutations(newUnused, newUsed, newPartialPermutations));
-        }
-        return cumulative;
+        });
+        return permutations;
     }
 
     public static List<Queen> generateAllPlacements() {
-        List<List<Integer>> permutations = generateAllPermutations();
-        List<IQueen> placements = new LinkedList<IQueen>();
-        for(List<Integer> permutation : permutations) {
-            IQueen tempReference = PhantomQueen.INSTANCE;
-            for(Integer integer : permutation) {
-                tempReference = new Queen(integer, permutation.lastIndexOf(integer), tempReference);
+        return generateAllPlacements(Solution.DEFAULT_SIZE);
+    }
+
+    public static List<Queen> generateAllPlacements(final int size) {
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        final List<Queen> placements = new LinkedList<Queen>();
+        new PermutationSpliterator(size, true).forEachRemaining(new Consumer<int[]>() {
+            @Override
+            public void accept(int[] permutation) {
+                placements.add(placement(permutation, size));
             }
-            placements.add(tempReference.clone());
-        }
+        });
+        event.commit(size, "placements", placements.size());
+        return placements;
+    }
 
-        List<Queen> result = new LinkedList<Queen>();
-        for(IQueen placement : placements) {
-            result.add((Queen) placement);
+    public static Stream<Queen> placements(final int size) {
+        return StreamSupport.stream(new PermutationSpliterator(size, true), false).map(new Function<int[], Queen>() {
+            @Override
+            public Queen apply(int[] permutation) {
+                return placement(permutation, size);
+            }
+        });
+    }
 
+    private static Queen placement(int[] permutation, int size) {
+        IQueen tempReference = PhantomQueen.INSTANCE;
+        for(int column = 0; column < permutation.length; column++) {
+            tempReference = new Queen(permutation[column], column, tempReference, size);
         }
-
-        return result;
+        return (Queen) tempReference;
     }
 }
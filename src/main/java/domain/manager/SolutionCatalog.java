@@ -0,0 +1,151 @@
+package domain.manager;
+
+import domain.Solution;
+import domain.metrics.Gauge;
+import domain.metrics.MetricsRegistry;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the solutions of a board size, their FEN strings and symmetry metadata at most once and
+ * shares them between the managers. Entries are kept in access order and the least recently used ones
+ * are evicted once the solutions held by all entries exceed the bound.
+ */
+public class SolutionCatalog {
+    public static final long DEFAULT_MAX_SOLUTIONS = 2000000;
+
+    public static final SolutionCatalog INSTANCE = new SolutionCatalog(DEFAULT_MAX_SOLUTIONS);
+
+    static {
+        MetricsRegistry.INSTANCE.gauge("SolutionCatalog.entries", new Gauge() {
+            @Override
+            public long value() {
+                return INSTANCE.size();
+            }
+        });
+        MetricsRegistry.INSTANCE.gauge("SolutionCatalog.solutions", new Gauge() {
+            @Override
+            public long value() {
+                return INSTANCE.weight();
+            }
+        });
+    }
+
+    private final long maxSolutions;
+    private final Map<Integer, Entry> entries = new LinkedHashMap<Integer, Entry>(16, 0.75f, true);
+
+    public SolutionCatalog(long maxSolutions) {
+        if(maxSolutions < 0) {
+            throw new IllegalArgumentException("the bound of catalog should not be negative");
+        }
+        this.maxSolutions = maxSolutions;
+    }
+
+    public synchronized Entry get(int size) {
+        Entry entry = entries.get(size);
+        if(entry == null) {
+            entry = new Entry(size);
+            entries.put(size, entry);
+            MetricsRegistry.INSTANCE.counter("SolutionCatalog.misses", size).increment();
+        } else {
+            MetricsRegistry.INSTANCE.counter("SolutionCatalog.hits", size).increment();
+        }
+        return entry;
+    }
+
+    public synchronized boolean contains(int size) {
+        return entries.containsKey(size);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long weight() {
+        long held = 0;
+        for(Entry entry : entries.values()) {
+            held += entry.weight();
+        }
+        return held;
+    }
+
+    private synchronized void evict(Entry keep) {
+        long held = weight();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while(held > maxSolutions && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if(entry != keep) {
+                held -= entry.weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    public class Entry {
+        private final int size;
+        private List<Solution> distinct;
+        private List<Solution> unique;
+        private List<String> distinctFEN;
+        private List<String> uniqueFEN;
+        private List<String> metadata;
+        private volatile long weight;
+
+        private Entry(int size) {
+            this.size = size;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public synchronized List<Solution> getDistinct() {
+            if(distinct == null) {
+                distinct = Collections.unmodifiableList(
+                        SolutionManager.distinctOf(SolutionManager.all(QueenManager.generateAllPlacements(size))));
+                weight = distinct.size();
+                evict(this);
+            }
+            return distinct;
+        }
+
+        public synchronized List<Solution> getUnique() {
+            if(unique == null) {
+                unique = Collections.unmodifiableList(SolutionManager.uniqueOf(getDistinct()));
+            }
+            return unique;
+        }
+
+        public synchronized List<String> getDistinctFEN() {
+            if(distinctFEN == null) {
+                distinctFEN = Collections.unmodifiableList(FENManager.fenStrings(getDistinct()));
+            }
+            return distinctFEN;
+        }
+
+        public synchronized List<String> getUniqueFEN() {
+            if(uniqueFEN == null) {
+                uniqueFEN = Collections.unmodifiableList(FENManager.fenStrings(getUnique()));
+            }
+            return uniqueFEN;
+        }
+
+        public synchronized List<String> getMetadata() {
+            if(metadata == null) {
+                metadata = Collections.unmodifiableList(MetadataManager.all(getDistinct()));
+            }
+            return metadata;
+        }
+
+        private long weight() {
+            return weight;
+        }
+    }
+}
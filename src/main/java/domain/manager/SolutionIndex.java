@@ -0,0 +1,123 @@
+package domain.manager;
+
+import domain.Solution;
+import domain.Symmetry;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The positions of a list of solutions, looked up by the images of another solution without building
+ * them as solutions. Complete solutions of one board up to {@link Solution#MAX_PACKED_SIZE} are keyed by
+ * their packed rows and an image by {@link Symmetry#apply(long, int)}; any others by the hash of their
+ * rows, each image being written into one scratch array first. A solution listed twice is found at its
+ * last position.
+ */
+final class SolutionIndex {
+    private static final Solution.MetaKey[] KEYS = Solution.MetaKey.values();
+
+    private final List<Solution> solutions;
+    // The board of every solution when they are packed, otherwise 0
+    private final int packedSize;
+    private final long[] packed;
+    private final int[] positions;
+    private final int mask;
+    private int[] image;
+
+    SolutionIndex(List<Solution> solutions) {
+        this.solutions = solutions;
+        packedSize = packable(solutions);
+        int capacity = Integer.highestOneBit(Math.max(1, solutions.size()) * 2 - 1) * 2;
+        packed = packedSize > 0 ? new long[capacity] : null;
+        positions = new int[capacity];
+        mask = capacity - 1;
+        for(int i = 0; i < solutions.size(); i++) {
+            if(packedSize > 0) {
+                long key = solutions.get(i).pack();
+                int slot = slot(key);
+                while(positions[slot] != 0 && packed[slot] != key) {
+                    slot = (slot + 1) & mask;
+                }
+                packed[slot] = key;
+                positions[slot] = i + 1;
+            } else {
+                Solution solution = solutions.get(i);
+                int slot = spread(solution.hashCode());
+                while(positions[slot] != 0 && !solutions.get(positions[slot] - 1).equals(solution)) {
+                    slot = (slot + 1) & mask;
+                }
+                positions[slot] = i + 1;
+            }
+        }
+    }
+
+    private static int packable(List<Solution> solutions) {
+        if(solutions.isEmpty()) {
+            return 0;
+        }
+        int size = solutions.get(0).getBoardSize();
+        if(size < 1 || size > Solution.MAX_PACKED_SIZE) {
+            return 0;
+        }
+        for(Solution solution : solutions) {
+            if(solution.getBoardSize() != size || solution.getSize() != size) {
+                return 0;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes the position of each image of the solution into {@code found}, indexed as the
+     * {@link Solution.MetaKey}s, or -1 where the image is not listed.
+     */
+    void find(Solution solution, int[] found) {
+        if(packedSize > 0 && solution.getBoardSize() == packedSize && solution.getSize() == packedSize) {
+            long rows = solution.pack();
+            for(Solution.MetaKey key : KEYS) {
+                found[key.getMetaIndex()] = find(Symmetry.of(key).apply(rows, packedSize));
+            }
+            return;
+        }
+        int size = solution.getBoardSize();
+        if(image == null || image.length != size) {
+            image = new int[size];
+        }
+        for(Solution.MetaKey key : KEYS) {
+            found[key.getMetaIndex()] = find(solution.image(Symmetry.of(key), image));
+        }
+    }
+
+    private int find(long key) {
+        int slot = slot(key);
+        while(positions[slot] != 0) {
+            if(packed[slot] == key) {
+                return positions[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int find(int[] rows) {
+        if(packedSize > 0) {
+            return -1;
+        }
+        int slot = spread(Arrays.hashCode(rows));
+        while(positions[slot] != 0) {
+            if(solutions.get(positions[slot] - 1).matches(rows)) {
+                return positions[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        return spread((int) (key ^ key >>> 32));
+    }
+
+    private int spread(int hash) {
+        return (hash * 0x9E3779B9 >>> 16 ^ hash) & mask;
+    }
+}
@@ -1,75 +1,160 @@
 package domain.manager;
 
 import domain.Solution;
-import domain.exceptions.NoSolutionException;
+import domain.events.SymmetryAnalysisEvent;
+import domain.metrics.MetricsRegistry;
 import domain.queen.Queen;
+import domain.solver.SolutionIterator;
+import domain.solver.SolutionSpliterator;
+import domain.solver.SolverRun;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SolutionManager {
+    static final int PARALLEL_THRESHOLD = 10000;
+
     public static List<Solution> transformPlacementToSolution(List<Queen> queens) {
         List<Solution> solutions = new LinkedList<Solution>();
         for(Queen queen : queens) {
-            try {
-                solutions.add(queen.solution());
-            } catch(NoSolutionException ignored) {}
+            Optional<Solution> solution = queen.findSolution();
+            if(solution.isPresent()) {
+                solutions.add(solution.get());
+            }
         }
         return solutions;
     }
 
     public static List<Solution> all(List<Queen> queens) {
+        long started = System.nanoTime();
         Set<Solution> filteredSolutions = new LinkedHashSet<Solution>(transformPlacementToSolution(queens));
 
-        return new LinkedList<Solution>(filteredSolutions);
+        List<Solution> all = new LinkedList<Solution>(filteredSolutions);
+        MetricsRegistry.INSTANCE.time("SolutionManager.all", placementSize(queens), started);
+        return all;
     }
 
     public static List<Solution> distinct(List<Queen> queens) {
-        List<Solution> all = new LinkedList<Solution>(SolutionManager.all(queens));
+        long started = System.nanoTime();
+        List<Solution> distinct = distinctOf(SolutionManager.all(queens));
+        MetricsRegistry.INSTANCE.time("SolutionManager.distinct", placementSize(queens), started);
+        return distinct;
+    }
 
-        for(Solution solution: all) {
-            for(Solution solution0 : all) {
-                if(solution.rotateBy90().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.T90, all.lastIndexOf(solution0));
-                }
-                if(solution.rotateBy180().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.T180, all.lastIndexOf(solution0));
-                }
-                if(solution.rotateBy270().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.T270, all.lastIndexOf(solution0));
-                }
-                if(solution.reflect().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.R0, all.lastIndexOf(solution0));
-                }
-                if(solution.reflect().rotateBy90().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.R90, all.lastIndexOf(solution0));
-                }
-                if(solution.reflect().rotateBy180().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.R180, all.lastIndexOf(solution0));
-                }
-                if(solution.reflect().rotateBy270().equals(solution0)) {
-                    solution.addMetadata(Solution.MetaKey.R270, all.lastIndexOf(solution0));
+    public static List<Solution> distinctOf(List<Solution> solutions) {
+        long started = System.nanoTime();
+        SymmetryAnalysisEvent event = new SymmetryAnalysisEvent();
+        event.begin();
+        List<Solution> all = new ArrayList<Solution>(solutions);
+        SolutionIndex index = new SolutionIndex(all);
+        int[] found = new int[Solution.MetaKey.values().length];
+        for(Solution solution : all) {
+            index.find(solution, found);
+            for(Solution.MetaKey key : Solution.MetaKey.values()) {
+                if(found[key.getMetaIndex()] >= 0) {
+                    solution.addMetadata(key, found[key.getMetaIndex()]);
                 }
             }
         }
+        event.commit(boardSize(all), "distinct", all.size(), all.size());
+        MetricsRegistry.INSTANCE.time("SolutionManager.distinctOf", boardSize(all), started);
         return all;
     }
 
     public static List<Solution> unique(List<Queen> queens) {
-        LinkedList<Solution> all = new LinkedList<Solution>(SolutionManager.all(queens));
+        long started = System.nanoTime();
+        List<Solution> unique = uniqueOf(SolutionManager.all(queens));
+        MetricsRegistry.INSTANCE.time("SolutionManager.unique", placementSize(queens), started);
+        return unique;
+    }
+
+    public static List<Solution> uniqueOf(List<Solution> all) {
+        long started = System.nanoTime();
+        SymmetryAnalysisEvent event = new SymmetryAnalysisEvent();
+        event.begin();
+        List<Solution> f;
+        if(all.size() >= PARALLEL_THRESHOLD) {
+            f = parallelUniqueOf(all);
+        } else {
+            Set<Solution> forms = new HashSet<Solution>();
+            f = new LinkedList<Solution>();
+            for(Solution s : all) {
+                if(forms.add(s.canonical())) {
+                    f.add(s);
+                }
+            }
+        }
+        event.commit(boardSize(all), "unique", all.size(), f.size());
+        MetricsRegistry.INSTANCE.time("SolutionManager.uniqueOf", boardSize(all), started);
+        return f;
+    }
+
+    private static int boardSize(List<Solution> solutions) {
+        return solutions.isEmpty() ? 0 : solutions.get(0).getBoardSize();
+    }
+
+    private static int placementSize(List<Queen> queens) {
+        return queens.isEmpty() ? 0 : queens.get(0).getSize();
+    }
+
+    public static List<Solution> parallelUniqueOf(List<Solution> all) {
+        final List<Solution> solutions = new ArrayList<Solution>(all);
+        final ConcurrentMap<Solution, Integer> forms = new ConcurrentHashMap<Solution, Integer>();
+        IntStream.range(0, solutions.size()).parallel().forEach(new IntConsumer() {
+            @Override
+            public void accept(int i) {
+                forms.merge(solutions.get(i).canonical(), i, new BinaryOperator<Integer>() {
+                    @Override
+                    public Integer apply(Integer first, Integer second) {
+                        return Math.min(first, second);
+                    }
+                });
+            }
+        });
+
+        List<Integer> indices = new ArrayList<Integer>(forms.values());
+        Collections.sort(indices);
         List<Solution> f = new LinkedList<Solution>();
-        for(Solution s : all) {
-            if(!f.contains(s.rotateBy90())
-                    && !f.contains(s.rotateBy180())
-                    && !f.contains(s.rotateBy270())
-                    && !f.contains(s.reflect())
-                    && !f.contains(s.rotateBy90().reflect())
-                    && !f.contains(s.rotateBy180().reflect())
-                    && !f.contains(s.rotateBy270().reflect()))
-                f.add(s);
+        for(Integer i : indices) {
+            f.add(solutions.get(i));
         }
         return f;
     }
+
+    public static Iterator<Solution> iterator(int size) {
+        return new SolutionIterator(size);
+    }
+
+    public static Stream<Solution> stream(int size) {
+        return StreamSupport.stream(new SolutionSpliterator(size), false);
+    }
+
+    public static Stream<Solution> parallelStream(int size) {
+        return StreamSupport.stream(new SolutionSpliterator(size), true);
+    }
+
+    /**
+     * A search of the board that has not started yet, to be watched, cancelled or limited in time.
+     */
+    public static SolverRun run(int size) {
+        return new SolverRun(size);
+    }
+
+    public static SolverRun resume(int size, String continuation) {
+        return new SolverRun(size, continuation);
+    }
 }
@@ -0,0 +1,8 @@
+package domain.metrics;
+
+/**
+ * A value sampled whenever the metrics are exported.
+ */
+public interface Gauge {
+    long value();
+}
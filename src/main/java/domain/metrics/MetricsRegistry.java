@@ -0,0 +1,180 @@
+package domain.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counters, gauges and latency histograms of the managers, kept per board size N. Size 0 stands for
+ * metrics that do not depend on a board. Once a metric exists, looking it up and recording into it
+ * allocates nothing.
+ */
+public class MetricsRegistry {
+    public static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final ConcurrentMap<String, PerSize<Counter>> counters = new ConcurrentHashMap<String, PerSize<Counter>>();
+    private final ConcurrentMap<String, PerSize<Histogram>> histograms =
+            new ConcurrentHashMap<String, PerSize<Histogram>>();
+    private final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<String, Gauge>();
+
+    public Counter counter(String name, int size) {
+        PerSize<Counter> sizes = counters.get(name);
+        if(sizes == null) {
+            counters.putIfAbsent(name, new PerSize<Counter>() {
+                @Override
+                protected Counter create() {
+                    return new Counter();
+                }
+            });
+            sizes = counters.get(name);
+        }
+        return sizes.get(size);
+    }
+
+    public Histogram histogram(String name, int size) {
+        PerSize<Histogram> sizes = histograms.get(name);
+        if(sizes == null) {
+            histograms.putIfAbsent(name, new PerSize<Histogram>() {
+                @Override
+                protected Histogram create() {
+                    return new Histogram();
+                }
+            });
+            sizes = histograms.get(name);
+        }
+        return sizes.get(size);
+    }
+
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Records the time since {@code started}, from {@link System#nanoTime()}, as a call of {@code name}.
+     */
+    public void time(String name, int size, long started) {
+        histogram(name, size).record(System.nanoTime() - started);
+    }
+
+    public void clear() {
+        counters.clear();
+        histograms.clear();
+    }
+
+    /**
+     * All metrics as text, one per line and sorted by name; latencies in microseconds.
+     */
+    public String snapshot() {
+        Map<String, String> lines = new TreeMap<String, String>();
+        for(Map.Entry<String, PerSize<Counter>> entry : counters.entrySet()) {
+            for(int size = 0; size < entry.getValue().capacity(); size++) {
+                Counter counter = entry.getValue().peek(size);
+                if(counter != null) {
+                    lines.put(key(entry.getKey(), size), "counter   " + label(entry.getKey(), size) + " " + counter.get());
+                }
+            }
+        }
+        for(Map.Entry<String, PerSize<Histogram>> entry : histograms.entrySet()) {
+            for(int size = 0; size < entry.getValue().capacity(); size++) {
+                Histogram histogram = entry.getValue().peek(size);
+                if(histogram != null) {
+                    lines.put(key(entry.getKey(), size), String.format("histogram %s count=%d p50=%.1fus p99=%.1fus max=%.1fus",
+                            label(entry.getKey(), size), histogram.getCount(), histogram.percentile(0.5) / 1e3,
+                            histogram.percentile(0.99) / 1e3, histogram.getMax() / 1e3));
+                }
+            }
+        }
+        for(Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            lines.put(key(entry.getKey(), 0), "gauge     " + entry.getKey() + " " + entry.getValue().value());
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# metrics ").append(new Date()).append('\n');
+        for(String line : lines.values()) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String key(String name, int size) {
+        return String.format("%s %010d", name, size);
+    }
+
+    private static String label(String name, int size) {
+        return size == 0 ? name : name + " N=" + size;
+    }
+
+    public void export(PrintStream out) {
+        out.print(snapshot());
+        out.flush();
+    }
+
+    /**
+     * Replaces the file with a snapshot, so readers never see half of one.
+     */
+    public void export(Path file) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            OutputStream out = Files.newOutputStream(temporary);
+            try {
+                out.write(snapshot().getBytes("UTF-8"));
+            } finally {
+                out.close();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(IOException e) {
+            throw new IllegalStateException("cannot export metrics to " + file, e);
+        }
+    }
+
+    /**
+     * Exports a snapshot every {@code interval} milliseconds on a daemon thread until the returned
+     * future is cancelled.
+     */
+    public ScheduledFuture<?> exportEvery(long interval, final PrintStream out) {
+        return schedule(interval, new Runnable() {
+            @Override
+            public void run() {
+                export(out);
+            }
+        });
+    }
+
+    public ScheduledFuture<?> exportEvery(long interval, final Path file) {
+        return schedule(interval, new Runnable() {
+            @Override
+            public void run() {
+                export(file);
+            }
+        });
+    }
+
+    private ScheduledFuture<?> schedule(long interval, Runnable export) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "metrics-export");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        // The thread ends once the export is cancelled
+        executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(true);
+        executor.setRemoveOnCancelPolicy(true);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(export, interval, interval, TimeUnit.MILLISECONDS);
+        executor.shutdown();
+        return future;
+    }
+}
@@ -0,0 +1,71 @@
+package domain.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The metrics of one name, indexed by board size a chunk of sizes at a time. Chunks are added as sizes
+ * reach them, so a metric of any size has its own slot and looking up an existing one allocates nothing.
+ */
+abstract class PerSize<T> {
+    private static final int CHUNK = 64;
+
+    private volatile AtomicReferenceArray<AtomicReferenceArray<T>> chunks =
+            new AtomicReferenceArray<AtomicReferenceArray<T>>(1);
+
+    protected abstract T create();
+
+    public T get(int size) {
+        if(size < 0) {
+            throw new IllegalArgumentException("the size of board should not be negative");
+        }
+        AtomicReferenceArray<T> chunk = chunk(size / CHUNK);
+        T metric = chunk.get(size % CHUNK);
+        if(metric == null) {
+            chunk.compareAndSet(size % CHUNK, null, create());
+            metric = chunk.get(size % CHUNK);
+        }
+        return metric;
+    }
+
+    /**
+     * The metric of the size if it was ever looked up, otherwise {@code null}.
+     */
+    public T peek(int size) {
+        AtomicReferenceArray<AtomicReferenceArray<T>> chunks = this.chunks;
+        if(size / CHUNK >= chunks.length()) {
+            return null;
+        }
+        AtomicReferenceArray<T> chunk = chunks.get(size / CHUNK);
+        return chunk == null ? null : chunk.get(size % CHUNK);
+    }
+
+    /**
+     * One past the largest size that may hold a metric.
+     */
+    public int capacity() {
+        return chunks.length() * CHUNK;
+    }
+
+    private AtomicReferenceArray<T> chunk(int index) {
+        AtomicReferenceArray<AtomicReferenceArray<T>> chunks = this.chunks;
+        AtomicReferenceArray<T> chunk = index < chunks.length() ? chunks.get(index) : null;
+        return chunk != null ? chunk : add(index);
+    }
+
+    // Chunks are added and the index grown under the lock, so that growing never drops a new chunk
+    private synchronized AtomicReferenceArray<T> add(int index) {
+        AtomicReferenceArray<AtomicReferenceArray<T>> chunks = this.chunks;
+        if(index >= chunks.length()) {
+            AtomicReferenceArray<AtomicReferenceArray<T>> grown =
+                    new AtomicReferenceArray<AtomicReferenceArray<T>>(Math.max(index + 1, 2 * chunks.length()));
+            for(int i = 0; i < chunks.length(); i++) {
+                grown.set(i, chunks.get(i));
+            }
+            this.chunks = chunks = grown;
+        }
+        if(chunks.get(index) == null) {
+            chunks.set(index, new AtomicReferenceArray<T>(CHUNK));
+        }
+        return chunks.get(index);
+    }
+}
@@ -0,0 +1,238 @@
+package domain.partition;
+
+import domain.exceptions.PartitionException;
+import domain.store.SolutionStore;
+import domain.store.SolutionStoreWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Properties;
+
+/**
+ * Splits the search of a board into work units in a shared directory, for {@link Worker}s in any number
+ * of JVMs to claim, and merges their results. The planner starts from the placements of the first queen
+ * and keeps splitting the unit with the largest estimated cost into its one-queen-longer prefixes,
+ * so the expensive parts of the tree end up in more, smaller units.
+ */
+public class Coordinator {
+    private final Path directory;
+
+    public Coordinator(Path directory) {
+        this.directory = directory;
+    }
+
+    public List<WorkUnit> plan(int size, int units, boolean store) {
+        if(Files.exists(directory.resolve(PartitionFiles.PLAN))) {
+            throw new PartitionException("directory " + directory + " already holds a plan");
+        }
+        List<WorkUnit> planned = split(size, units, new CostEstimator(size));
+        try {
+            Files.createDirectories(directory);
+        } catch(IOException e) {
+            throw new PartitionException("cannot create " + directory, e);
+        }
+
+        for(WorkUnit unit : planned) {
+            Properties properties = new Properties();
+            properties.setProperty(PartitionFiles.PREFIX, WorkUnit.formatPrefix(unit.getPrefix()));
+            PartitionFiles.write(directory.resolve(unit.getName() + PartitionFiles.TODO), properties);
+        }
+        Properties plan = new Properties();
+        plan.setProperty(PartitionFiles.SIZE, String.valueOf(size));
+        plan.setProperty(PartitionFiles.UNITS, String.valueOf(planned.size()));
+        plan.setProperty(PartitionFiles.STORE, String.valueOf(store));
+        PartitionFiles.write(directory.resolve(PartitionFiles.PLAN), plan);
+        return planned;
+    }
+
+    static List<WorkUnit> split(int size, int units, final CostEstimator estimator) {
+        PriorityQueue<Estimated> queue = new PriorityQueue<Estimated>();
+        List<int[]> settled = new ArrayList<int[]>();
+        for(int[] prefix : extend(size, new int[0])) {
+            queue.add(new Estimated(prefix, estimator.estimate(prefix)));
+        }
+
+        while(!queue.isEmpty() && queue.size() + settled.size() < units) {
+            Estimated largest = queue.poll();
+            if(largest.prefix.length >= size - 1) {
+                settled.add(largest.prefix);
+                continue;
+            }
+            for(int[] child : extend(size, largest.prefix)) {
+                queue.add(new Estimated(child, estimator.estimate(child)));
+            }
+        }
+        for(Estimated remaining : queue) {
+            settled.add(remaining.prefix);
+        }
+
+        Collections.sort(settled, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] a, int[] b) {
+                for(int i = 0; i < a.length && i < b.length; i++) {
+                    if(a[i] != b[i]) {
+                        return a[i] - b[i];
+                    }
+                }
+                return a.length - b.length;
+            }
+        });
+        List<WorkUnit> planned = new ArrayList<WorkUnit>(settled.size());
+        for(int i = 0; i < settled.size(); i++) {
+            planned.add(new WorkUnit(i, settled.get(i)));
+        }
+        return planned;
+    }
+
+    private static List<int[]> extend(int size, int[] prefix) {
+        List<int[]> children = new ArrayList<int[]>();
+        int column = prefix.length;
+        for(int row = 0; row < size; row++) {
+            boolean attacked = false;
+            for(int c = 0; c < column && !attacked; c++) {
+                attacked = prefix[c] == row || Math.abs(prefix[c] - row) == column - c;
+            }
+            if(!attacked) {
+                int[] child = new int[column + 1];
+                System.arraycopy(prefix, 0, child, 0, column);
+                child[column] = row;
+                children.add(child);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Returns units whose workers have not touched their claim for {@code staleAfter} milliseconds to the
+     * queue, for workers that died or were pre-empted. It should be several {@link Worker#HEARTBEAT}s.
+     */
+    public int requeue(long staleAfter) {
+        long now = System.currentTimeMillis();
+        int requeued = 0;
+        for(Path claimed : PartitionFiles.list(directory, "*" + PartitionFiles.CLAIMED + "*")) {
+            try {
+                if(now - Files.getLastModifiedTime(claimed).toMillis() >= staleAfter) {
+                    Path todo = directory.resolve(PartitionFiles.unitName(claimed) + PartitionFiles.TODO);
+                    Files.move(claimed, todo, StandardCopyOption.ATOMIC_MOVE);
+                    requeued++;
+                }
+            } catch(IOException e) {
+                // finished or requeued meanwhile
+            }
+        }
+        return requeued;
+    }
+
+    public int getUnits() {
+        return Integer.parseInt(plan().getProperty(PartitionFiles.UNITS));
+    }
+
+    public int getCompleted() {
+        return PartitionFiles.list(directory, "*" + PartitionFiles.DONE).size();
+    }
+
+    public boolean isComplete() {
+        return getCompleted() == getUnits();
+    }
+
+    public long merge() {
+        return merge(null);
+    }
+
+    /**
+     * Sums the counts of all units and, when {@code store} is given, concatenates their parts into it
+     * in unit order.
+     */
+    public long merge(Path store) {
+        Properties plan = plan();
+        int size = Integer.parseInt(plan.getProperty(PartitionFiles.SIZE));
+        int units = Integer.parseInt(plan.getProperty(PartitionFiles.UNITS));
+        if(!isComplete()) {
+            throw new PartitionException(getCompleted() + " of " + units + " units are complete");
+        }
+        if(store != null && !Boolean.parseBoolean(plan.getProperty(PartitionFiles.STORE))) {
+            throw new PartitionException("the plan in " + directory + " does not store solutions");
+        }
+
+        long count = 0;
+        for(int id = 0; id < units; id++) {
+            Properties done = PartitionFiles.read(directory.resolve(WorkUnit.name(id) + PartitionFiles.DONE));
+            count += Long.parseLong(done.getProperty(PartitionFiles.COUNT));
+        }
+        if(store != null) {
+            concatenate(size, units, store);
+        }
+        return count;
+    }
+
+    private void concatenate(int size, int units, Path store) {
+        SolutionStoreWriter writer = new SolutionStoreWriter(store, size,
+                SolutionStore.FLAG_DISTINCT | SolutionStore.FLAG_LEXICOGRAPHIC);
+        try {
+            int[] rows = new int[size];
+            for(int id = 0; id < units; id++) {
+                SolutionStore part = SolutionStore.open(directory.resolve(WorkUnit.name(id) + PartitionFiles.PART));
+                try {
+                    for(long k = 0; k < part.count(); k++) {
+                        part.read(k, rows);
+                        writer.write(rows);
+                    }
+                } finally {
+                    part.close();
+                }
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private Properties plan() {
+        Path plan = directory.resolve(PartitionFiles.PLAN);
+        if(!Files.exists(plan)) {
+            throw new PartitionException("directory " + directory + " holds no plan");
+        }
+        return PartitionFiles.read(plan);
+    }
+
+    private static class Estimated implements Comparable<Estimated> {
+        private final int[] prefix;
+        private final double cost;
+
+        private Estimated(int[] prefix, double cost) {
+            this.prefix = prefix;
+            this.cost = cost;
+        }
+
+        @Override
+        public int compareTo(Estimated o) {
+            return Double.compare(o.cost, cost);
+        }
+    }
+
+    /**
+     * {@code plan <directory> <size> <units> [store]}, {@code requeue <directory> <millis>} or
+     * {@code merge <directory> [store]}.
+     */
+    public static void main(String[] args) {
+        Coordinator coordinator = new Coordinator(Paths.get(args[1]));
+        if("plan".equals(args[0])) {
+            List<WorkUnit> units = coordinator.plan(Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                    args.length > 4 && "store".equals(args[4]));
+            System.out.println(units.size() + " units planned");
+        } else if("requeue".equals(args[0])) {
+            System.out.println(coordinator.requeue(Long.parseLong(args[2])) + " units requeued");
+        } else if("merge".equals(args[0])) {
+            System.out.println(coordinator.merge(args.length > 2 ? Paths.get(args[2]) : null));
+        } else {
+            throw new IllegalArgumentException("unknown command " + args[0]);
+        }
+    }
+}
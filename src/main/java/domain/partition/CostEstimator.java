@@ -0,0 +1,73 @@
+package domain.partition;
+
+import java.util.Random;
+
+/**
+ * Knuth's estimate of the size of the search tree below a prefix: random probes down the tree,
+ * each multiplying the branching factors met on the way. Seeded, so plans are reproducible.
+ */
+public class CostEstimator {
+    public static final int DEFAULT_PROBES = 64;
+
+    private final int size;
+    private final long full;
+    private final int probes;
+    private final long seed;
+
+    public CostEstimator(int size) {
+        this(size, DEFAULT_PROBES, 8L);
+    }
+
+    public CostEstimator(int size, int probes, long seed) {
+        this.size = size;
+        this.full = size == 64 ? -1L : (1L << size) - 1;
+        this.probes = probes;
+        this.seed = seed;
+    }
+
+    public double estimate(int[] prefix) {
+        long rows = 0;
+        long down = 0;
+        long up = 0;
+        for(int row : prefix) {
+            long bit = 1L << row;
+            if(((rows | down | up) & bit) != 0) {
+                return 0;
+            }
+            rows |= bit;
+            down = ((down | bit) << 1) & full;
+            up = (up | bit) >>> 1;
+        }
+
+        Random random = new Random(seed);
+        double total = 0;
+        for(int probe = 0; probe < probes; probe++) {
+            total += probe(prefix.length, rows, down, up, random);
+        }
+        return total / probes;
+    }
+
+    private double probe(int column, long rows, long down, long up, Random random) {
+        double nodes = 1;
+        double width = 1;
+        for(; column < size; column++) {
+            long free = ~(rows | down | up) & full;
+            int branches = Long.bitCount(free);
+            if(branches == 0) {
+                break;
+            }
+            width *= branches;
+            nodes += width;
+
+            int pick = random.nextInt(branches);
+            for(int i = 0; i < pick; i++) {
+                free &= free - 1;
+            }
+            long bit = free & -free;
+            rows |= bit;
+            down = ((down | bit) << 1) & full;
+            up = (up | bit) >>> 1;
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,117 @@
+package domain.partition;
+
+import domain.exceptions.PartitionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Layout of the shared directory. A unit moves from {@code <unit>.todo} to {@code <unit>.claimed-<worker>}
+ * by an atomic rename, and leaves {@code <unit>.done} with its count, plus {@code <unit>.part} with its
+ * solutions when the plan stores them. The claim's modification time is the worker's heartbeat, and
+ * results are written to temporary files and renamed into place.
+ */
+final class PartitionFiles {
+    static final String PLAN = "partition.properties";
+    static final String TODO = ".todo";
+    static final String CLAIMED = ".claimed-";
+    static final String DONE = ".done";
+    static final String PART = ".part";
+
+    static final String SIZE = "size";
+    static final String UNITS = "units";
+    static final String STORE = "store";
+    static final String PREFIX = "prefix";
+    static final String COUNT = "count";
+    static final String WORKER = "worker";
+
+    private PartitionFiles() {
+    }
+
+    static List<Path> list(Path directory, String glob) {
+        List<Path> paths = new ArrayList<Path>();
+        try {
+            DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob);
+            try {
+                for(Path path : stream) {
+                    paths.add(path);
+                }
+            } finally {
+                stream.close();
+            }
+        } catch(IOException e) {
+            throw new PartitionException("cannot list " + directory, e);
+        }
+        Collections.sort(paths);
+        return paths;
+    }
+
+    static String unitName(Path path) {
+        String file = path.getFileName().toString();
+        return file.substring(0, file.indexOf('.'));
+    }
+
+    static Properties read(Path path) {
+        Properties properties = new Properties();
+        try {
+            InputStream in = Files.newInputStream(path);
+            try {
+                properties.load(in);
+            } finally {
+                in.close();
+            }
+        } catch(IOException e) {
+            throw new PartitionException("cannot read " + path, e);
+        }
+        return properties;
+    }
+
+    /**
+     * A new file next to {@code path} to write before renaming it over {@code path}, named apart for each
+     * writer so that two workers finishing the same unit do not share it.
+     */
+    static Path temporary(Path path) {
+        try {
+            return Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        } catch(IOException e) {
+            throw new PartitionException("cannot write " + path, e);
+        }
+    }
+
+    static void replace(Path temporary, Path path) {
+        try {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(IOException e) {
+            throw new PartitionException("cannot write " + path, e);
+        }
+    }
+
+    static void touch(Path path) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    static void write(Path path, Properties properties) {
+        Path temporary = temporary(path);
+        try {
+            OutputStream out = Files.newOutputStream(temporary);
+            try {
+                properties.store(out, null);
+            } finally {
+                out.close();
+            }
+        } catch(IOException e) {
+            throw new PartitionException("cannot write " + path, e);
+        }
+        replace(temporary, path);
+    }
+}
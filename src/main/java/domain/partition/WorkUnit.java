@@ -0,0 +1,58 @@
+package domain.partition;
+
+import java.util.Arrays;
+
+/**
+ * A fixed placement of the first queens. Units are numbered in the lexicographic order of their
+ * prefixes, so concatenating their solutions by number gives the order of the serial search.
+ */
+public class WorkUnit {
+    private final int id;
+    private final int[] prefix;
+
+    public WorkUnit(int id, int[] prefix) {
+        this.id = id;
+        this.prefix = prefix.clone();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int[] getPrefix() {
+        return prefix.clone();
+    }
+
+    public String getName() {
+        return name(id);
+    }
+
+    static String name(int id) {
+        return String.format("unit-%06d", id);
+    }
+
+    static int[] parsePrefix(String value) {
+        if(value.isEmpty()) {
+            return new int[0];
+        }
+        String[] parts = value.split(",");
+        int[] prefix = new int[parts.length];
+        for(int i = 0; i < parts.length; i++) {
+            prefix[i] = Integer.parseInt(parts[i].trim());
+        }
+        return prefix;
+    }
+
+    static String formatPrefix(int[] prefix) {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < prefix.length; i++) {
+            sb.append(i == 0 ? "" : ",").append(prefix[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " " + Arrays.toString(prefix);
+    }
+}
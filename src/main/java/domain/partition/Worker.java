@@ -0,0 +1,182 @@
+package domain.partition;
+
+import domain.exceptions.PartitionException;
+import domain.solver.BitmaskSolver;
+import domain.store.SolutionStoreWriter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Claims units of a {@link Coordinator}'s plan by renaming them, so that each is claimed by one worker
+ * only, and searches the solutions extending each unit's prefix. Names should differ between workers.
+ * While a unit runs the claim is touched every heartbeat, so {@link Coordinator#requeue(long)} should be
+ * given a good deal longer than the heartbeat.
+ */
+public class Worker {
+    public static final long HEARTBEAT = 1000;
+
+    private final Path directory;
+    private final String name;
+    private long heartbeat = HEARTBEAT;
+
+    public Worker(Path directory, String name) {
+        this.directory = directory;
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setHeartbeat(long heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Runs units until none is left to claim, and returns how many this worker completed.
+     */
+    public int run() {
+        int completed = 0;
+        while(runOne()) {
+            completed++;
+        }
+        return completed;
+    }
+
+    public boolean runOne() {
+        Path claimed = claim();
+        if(claimed == null) {
+            return false;
+        }
+        String unit = PartitionFiles.unitName(claimed);
+        try {
+            complete(unit, claimed);
+        } catch(RuntimeException e) {
+            release(claimed, directory.resolve(unit + PartitionFiles.TODO));
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Claims the first unit left to do, dated now rather than when it was planned, or returns
+     * {@code null} when none is left. A requeued unit that its first worker finished after all is dropped.
+     */
+    Path claim() {
+        for(Path todo : PartitionFiles.list(directory, "*" + PartitionFiles.TODO)) {
+            String unit = PartitionFiles.unitName(todo);
+            Path claimed = directory.resolve(unit + PartitionFiles.CLAIMED + name);
+            try {
+                Files.move(todo, claimed, StandardCopyOption.ATOMIC_MOVE);
+                PartitionFiles.touch(claimed);
+                if(Files.exists(directory.resolve(unit + PartitionFiles.DONE))) {
+                    Files.deleteIfExists(claimed);
+                    continue;
+                }
+            } catch(NoSuchFileException e) {
+                continue;
+            } catch(IOException e) {
+                throw new PartitionException("cannot claim " + todo, e);
+            }
+            return claimed;
+        }
+        return null;
+    }
+
+    private void complete(String unit, Path claimed) {
+        ScheduledThreadPoolExecutor heartbeats = heartbeat(claimed);
+        try {
+            search(unit, claimed);
+        } finally {
+            heartbeats.shutdownNow();
+        }
+        try {
+            // Gone already when the unit was requeued meanwhile; its results are the same either way
+            Files.deleteIfExists(claimed);
+        } catch(IOException e) {
+            throw new PartitionException("cannot release " + claimed, e);
+        }
+    }
+
+    private ScheduledThreadPoolExecutor heartbeat(final Path claimed) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "partition-heartbeat-" + name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    PartitionFiles.touch(claimed);
+                } catch(IOException e) {
+                    // requeued meanwhile
+                }
+            }
+        }, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void search(String unit, Path claimed) {
+        Properties plan = PartitionFiles.read(directory.resolve(PartitionFiles.PLAN));
+        BitmaskSolver solver = new BitmaskSolver(Integer.parseInt(plan.getProperty(PartitionFiles.SIZE)));
+        int[] prefix = WorkUnit.parsePrefix(PartitionFiles.read(claimed).getProperty(PartitionFiles.PREFIX));
+
+        long count;
+        if(Boolean.parseBoolean(plan.getProperty(PartitionFiles.STORE))) {
+            Path part = directory.resolve(unit + PartitionFiles.PART);
+            Path temporary = PartitionFiles.temporary(part);
+            final SolutionStoreWriter writer = new SolutionStoreWriter(temporary, solver.getSize(), 0);
+            try {
+                solver.visit(prefix, new Consumer<int[]>() {
+                    @Override
+                    public void accept(int[] rows) {
+                        writer.write(rows);
+                    }
+                });
+            } finally {
+                writer.close();
+            }
+            PartitionFiles.replace(temporary, part);
+            count = writer.getCount();
+        } else {
+            count = solver.count(prefix);
+        }
+
+        Properties done = new Properties();
+        done.setProperty(PartitionFiles.COUNT, String.valueOf(count));
+        done.setProperty(PartitionFiles.WORKER, name);
+        PartitionFiles.write(directory.resolve(unit + PartitionFiles.DONE), done);
+    }
+
+    private void release(Path claimed, Path todo) {
+        try {
+            Files.move(claimed, todo, StandardCopyOption.ATOMIC_MOVE);
+        } catch(IOException e) {
+            // left for Coordinator.requeue
+        }
+    }
+
+    /**
+     * {@code <directory> [name]}; the name defaults to the process id and host.
+     */
+    public static void main(String[] args) {
+        String name = args.length > 1 ? args[1] : ManagementFactory.getRuntimeMXBean().getName();
+        Worker worker = new Worker(Paths.get(args[0]), name);
+        System.out.println(worker.getName() + " completed " + worker.run() + " units");
+    }
+}
@@ -2,6 +2,8 @@ package domain.queen;
 
 import domain.Solution;
 
+import java.util.Optional;
+
 public interface IQueen extends Cloneable {
     boolean canAttack(int row, int column);
 
@@ -11,5 +13,10 @@ public interface IQueen extends Cloneable {
 
     Solution solution();
 
+    /**
+     * The solution this queen and its neighbours settle on, or empty if there is none.
+     */
+    Optional<Solution> findSolution();
+
     IQueen clone();
 }
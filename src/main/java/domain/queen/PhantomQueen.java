@@ -2,6 +2,8 @@ package domain.queen;
 
 import domain.Solution;
 
+import java.util.Optional;
+
 public class PhantomQueen implements IQueen {
 
     public static final PhantomQueen INSTANCE = instance();
@@ -37,6 +39,11 @@ public class PhantomQueen implements IQueen {
         return new Solution();
     }
 
+    @Override
+    public Optional<Solution> findSolution() {
+        return Optional.of(new Solution());
+    }
+
     @Override
     public IQueen clone() {
         try {
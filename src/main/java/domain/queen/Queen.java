@@ -2,13 +2,29 @@ package domain.queen;
 
 import domain.Solution;
 import domain.exceptions.NoSolutionException;
+import domain.solver.SolverStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class Queen implements IQueen {
     private int row;
     private int column;
     private IQueen neighbour;
+    private int size;
+
+    // The flat search holding the row while this queen is part of one
+    private QueenSearch search;
+    private int index;
 
     public Queen(int row, int column, IQueen neighbour) {
+        this(row, column, neighbour, Solution.DEFAULT_SIZE);
+    }
+
+    public Queen(int row, int column, IQueen neighbour, int size) {
+        this.size = size;
         checkIncomingProperty(row, "row");
         this.row = row;
         checkIncomingProperty(column, "column");
@@ -17,8 +33,8 @@ public class Queen implements IQueen {
     }
 
     private void checkIncomingProperty(int property, String name) {
-        if(property < 0 || property > 7) {
-            throw new IllegalArgumentException("the "+ name + " of queen should be 0 to 7");
+        if(property < 0 || property > size - 1) {
+            throw new IllegalArgumentException("the "+ name + " of queen should be 0 to " + (size - 1));
         }
     }
 
@@ -27,15 +43,24 @@ public class Queen implements IQueen {
     }
 
     public int getRow() {
-        return row;
+        return search != null ? search.getRow(index) : row;
     }
 
     public IQueen getNeighbour() {
         return neighbour;
     }
 
+    public int getSize() {
+        return size;
+    }
+
     @Override
     public boolean canAttack(int row, int column) {
+        QueenSearch search = attach();
+        if(search != null) {
+            return search.canAttack(index, row, column);
+        }
+
         if(row == this.row) {
             return true;
         } else if (row - this.row == column - this.column || row - this.row == this.column - column) {
@@ -46,22 +71,30 @@ public class Queen implements IQueen {
 
     @Override
     public boolean solve() {
+        QueenSearch search = attach();
+        if(search != null) {
+            return search.solve(index);
+        }
+
         if(!neighbour.solve()) {
             return false;
         }
-
-        while(neighbour.canAttack(row, column)) {
+        while(isAttacked()) {
             if(!advance()) {
                 return false;
             }
         }
-
         return true;
     }
 
     @Override
     public boolean advance() {
-        if(row < 7) {
+        QueenSearch search = attach();
+        if(search != null) {
+            return search.advance(index);
+        }
+
+        if(row < size - 1) {
             row++;
 
             // This moment is crucial, while it seems to be logical to return plain boolean,
@@ -85,20 +118,99 @@ public class Queen implements IQueen {
         return false;
     }
 
+    // The probe of the recursion, recorded at this queen's column as the depth of its square
+    private boolean isAttacked() {
+        SolverStatistics statistics = SolverStatistics.active();
+        if(statistics != null) {
+            statistics.probe(column);
+        }
+        return neighbour.canAttack(row, column);
+    }
+
     public Solution solution() {
+        return findSolution().orElseThrow(new Supplier<NoSolutionException>() {
+            @Override
+            public NoSolutionException get() {
+                return new NoSolutionException();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Solution> findSolution() {
+        QueenSearch search = attach();
+        if(search != null) {
+            return search.solve(index) ? Optional.of(search.getPlacement().snapshot()) : Optional.<Solution>empty();
+        }
+
         if(!solve()) {
-            throw new NoSolutionException();
+            return Optional.empty();
         }
 
-        Solution solution = neighbour.solution();
-        solution.augment(row);
+        Optional<Solution> solution = neighbour.findSolution();
+        if(solution.isPresent()) {
+            solution.get().setBoardSize(size);
+            solution.get().augment(row);
+        }
         return solution;
     }
 
+    /**
+     * The flat search of the chain, once this queen and all its neighbours are plain queens of one board
+     * ending in the phantom and fitting on it; otherwise {@code null}, and the chain is searched by
+     * recursion, as subclasses and other queens may change how any step works. The chain is added to a
+     * search once, on top of the search of the highest neighbour already in one, if any.
+     */
+    private QueenSearch attach() {
+        if(search != null && search.queen(index) == this) {
+            return search;
+        }
+        if(getClass() != Queen.class) {
+            return null;
+        }
+
+        List<Queen> chain = new ArrayList<Queen>();
+        IQueen queen = this;
+        Queen base = null;
+        while(queen.getClass() == Queen.class && ((Queen) queen).size == size) {
+            Queen plain = (Queen) queen;
+            if(plain.search != null && plain.search.queen(plain.index) == plain) {
+                base = plain;
+                break;
+            }
+            chain.add(plain);
+            queen = plain.neighbour;
+        }
+        if(base == null && queen != PhantomQueen.INSTANCE) {
+            return null;
+        }
+        int below = base == null ? 0 : base.index + 1;
+        if(below + chain.size() > size) {
+            return null;
+        }
+
+        QueenSearch search = base == null ? new QueenSearch(size) : base.search;
+        search.truncate(below);
+        for(int k = chain.size() - 1; k >= 0; k--) {
+            Queen plain = chain.get(k);
+            plain.index = search.add(plain, plain.row, plain.column);
+            plain.search = search;
+        }
+        return search;
+    }
+
+    void detach(int row) {
+        this.row = row;
+        search = null;
+    }
+
     @Override
     public IQueen clone() {
         try {
-            return (IQueen) super.clone();
+            Queen queen = (Queen) super.clone();
+            queen.row = getRow();
+            queen.search = null;
+            return queen;
         } catch (CloneNotSupportedException e) {
             e.printStackTrace();
         }
@@ -112,6 +224,6 @@ public class Queen implements IQueen {
 
         Queen queen = (Queen) o;
 
-        return column == queen.column && row == queen.row && neighbour.equals(queen.neighbour);
+        return column == queen.column && getRow() == queen.getRow() && size == queen.size && neighbour.equals(queen.neighbour);
     }
 }
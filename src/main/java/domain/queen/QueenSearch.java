@@ -0,0 +1,222 @@
+package domain.queen;
+
+import domain.PlacementBuffer;
+import domain.solver.SolverStatistics;
+
+/**
+ * The search of a chain of queens over flat arrays, index 0 being the queen next to the phantom. It moves
+ * the queens exactly as the recursive {@link Queen#solve()} and {@link Queen#advance()} of queen
+ * {@code top} would, with loops instead of recursion through the neighbours, so the depth of the stack
+ * does not grow with the board. The chain's queens read their rows from here once they are added.
+ *
+ * <p>Settled queens are pushed onto the search's {@link PlacementBuffer} and popped off it to backtrack.
+ * They stay settled between calls, as their rows only change through the search, so advancing a solved
+ * chain starts from its top queen rather than checking every queen below again.
+ *
+ * <p>When queen {@code i} is attacked at its last row, the recursion advances the nearest lower queen
+ * that can still move and only sets the queens above it back to the first row once that queen and all
+ * below it are settled again. The loop keeps the highest queen waiting for that reset, and resets each
+ * one as it climbs back to it, so a failed search leaves the rows where the recursion would.
+ */
+public final class QueenSearch {
+    private final int size;
+    private final PlacementBuffer placement;
+    private final Queen[] queens;
+    private final int[] rows;
+    private final int[] columns;
+    private int count;
+
+    public QueenSearch(int size) {
+        this.size = size;
+        placement = new PlacementBuffer(size);
+        queens = new Queen[size];
+        rows = new int[size];
+        columns = new int[size];
+    }
+
+    /**
+     * Puts a queen on top of the chain and returns its index.
+     */
+    public int add(int row, int column) {
+        return add(null, row, column);
+    }
+
+    int add(Queen queen, int row, int column) {
+        if(count == size) {
+            throw new IllegalStateException("all " + size + " queens are placed");
+        }
+        queens[count] = queen;
+        rows[count] = row;
+        columns[count] = column;
+        return count++;
+    }
+
+    /**
+     * Takes the queens from {@code count} on off the chain, handing each its row back.
+     */
+    void truncate(int count) {
+        while(placement.getDepth() > count) {
+            placement.pop();
+        }
+        for(int index = count; index < this.count; index++) {
+            if(queens[index] != null) {
+                queens[index].detach(rows[index]);
+                queens[index] = null;
+            }
+        }
+        this.count = count;
+    }
+
+    Queen queen(int index) {
+        return index < count ? queens[index] : null;
+    }
+
+    public int getRow(int index) {
+        return rows[index];
+    }
+
+    public int getColumn(int index) {
+        return columns[index];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The settled queens, the first {@code top + 1} of them after a successful {@link #solve(int)}.
+     */
+    public PlacementBuffer getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Whether any queen up to {@code index} attacks the square, asking the nearest queen first. The probe
+     * is recorded at the depth of the square, the one above queen {@code index}.
+     */
+    public boolean canAttack(int index, int row, int column) {
+        SolverStatistics statistics = SolverStatistics.active();
+        if(statistics != null) {
+            statistics.probe(index + 1);
+        }
+        for(int k = index; k >= 0; k--) {
+            int rise = row - rows[k];
+            if(rise == 0 || rise == column - columns[k] || rise == columns[k] - column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean solve(int top) {
+        while(placement.getDepth() > top + 1) {
+            placement.pop();
+        }
+        if(placement.getDepth() == 0) {
+            SolverStatistics statistics = SolverStatistics.active();
+            if(statistics != null) {
+                statistics.node(0);
+            }
+        }
+        return run(placement.getDepth(), top, -1);
+    }
+
+    public boolean advance(int top) {
+        while(placement.getDepth() > top) {
+            placement.pop();
+        }
+        if(rows[top] < size - 1) {
+            rows[top]++;
+            return run(placement.getDepth(), top, -1);
+        }
+
+        int j = carry(top);
+        if(j < 0) {
+            return false;
+        }
+        while(placement.getDepth() > j) {
+            placement.pop();
+        }
+        rows[j]++;
+        return run(placement.getDepth(), j, -1) && run(j + 1, top, top);
+    }
+
+    /**
+     * Whether a settled queen attacks queen {@code i}, all queens below it being settled.
+     */
+    private boolean isAttacked(int i) {
+        SolverStatistics statistics = SolverStatistics.active();
+        if(statistics != null) {
+            statistics.probe(i);
+        }
+        int row = rows[i];
+        int column = columns[i];
+        for(int k = i - 1; k >= 0; k--) {
+            int rise = row - placement.row(k);
+            if(rise == 0 || rise == column - columns[k] || rise == columns[k] - column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Settles queens {@code i} to {@code top}, those below {@code i} being settled, and resets every
+     * queen up to {@code resetUpTo} on reaching it.
+     */
+    private boolean run(int i, int top, int resetUpTo) {
+        SolverStatistics statistics = SolverStatistics.active();
+        if(i <= resetUpTo) {
+            rows[i] = 0;
+        }
+        while(i <= top) {
+            if(!isAttacked(i)) {
+                placement.push(rows[i]);
+                i++;
+                if(statistics != null) {
+                    statistics.node(i);
+                    if(i == size) {
+                        statistics.solution(size);
+                    }
+                }
+                if(i <= resetUpTo) {
+                    rows[i] = 0;
+                }
+            } else if(rows[i] < size - 1) {
+                rows[i]++;
+            } else {
+                int j = carry(i);
+                if(j < 0) {
+                    return false;
+                }
+                while(placement.getDepth() > j) {
+                    placement.pop();
+                }
+                rows[j]++;
+                resetUpTo = Math.max(resetUpTo, i);
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The highest queen below {@code i}, itself on its last row, that can still move down a row,
+     * or -1 when none can.
+     */
+    private int carry(int i) {
+        SolverStatistics statistics = SolverStatistics.active();
+        int j = i;
+        while(j >= 0 && rows[j] >= size - 1) {
+            if(statistics != null) {
+                statistics.backtrack(j);
+            }
+            j--;
+        }
+        return j;
+    }
+}
@@ -0,0 +1,195 @@
+package domain.solver;
+
+import domain.events.SolverRunEvent;
+import domain.Solution;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Backtracking search that keeps occupied rows and both diagonals as bitmasks,
+ * placing one queen per column from left to right. Works for boards of up to 64 squares a side.
+ */
+public class BitmaskSolver {
+    public static final int MAX_SIZE = 64;
+
+    private final int size;
+    private final long full;
+
+    public BitmaskSolver(int size) {
+        this.size = size;
+        this.full = mask(size);
+    }
+
+    static long mask(int size) {
+        if(size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("the size of board should be 1 to " + MAX_SIZE);
+        }
+        return size == MAX_SIZE ? -1L : (1L << size) - 1;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    long getFull() {
+        return full;
+    }
+
+    public long count() {
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        long count = count(0, 0L, 0L, 0L);
+        event.commit(size, "bitmask", count);
+        return count;
+    }
+
+    long count(int column, long rows, long down, long up) {
+        SolverStatistics statistics = SolverStatistics.active();
+        if(statistics != null) {
+            record(statistics, column, rows, down, up);
+        }
+        if(column == size) {
+            return 1;
+        }
+        long total = 0;
+        long free = ~(rows | down | up) & full;
+        while(free != 0) {
+            long bit = free & -free;
+            free ^= bit;
+            total += count(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1);
+        }
+        return total;
+    }
+
+    Solution solution(int[] placement) {
+        Solution solution = new Solution(size);
+        for(int row : placement) {
+            solution.augment(row);
+        }
+        return solution;
+    }
+
+    public List<Solution> solutions() {
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        List<Solution> solutions = new LinkedList<Solution>();
+        collect(0, 0L, 0L, 0L, new int[size], solutions);
+        event.commit(size, "bitmask", solutions.size());
+        return solutions;
+    }
+
+    void collect(int column, long rows, long down, long up, int[] placement, final List<Solution> solutions) {
+        visit(column, rows, down, up, placement, new Consumer<int[]>() {
+            @Override
+            public void accept(int[] placement) {
+                solutions.add(solution(placement));
+            }
+        });
+    }
+
+    void visit(int column, long rows, long down, long up, int[] placement, Consumer<int[]> visitor) {
+        SolverStatistics statistics = SolverStatistics.active();
+        if(statistics != null) {
+            record(statistics, column, rows, down, up);
+        }
+        if(column == size) {
+            visitor.accept(placement);
+            return;
+        }
+        long free = ~(rows | down | up) & full;
+        while(free != 0) {
+            long bit = free & -free;
+            free ^= bit;
+            placement[column] = Long.numberOfTrailingZeros(bit);
+            visit(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1, placement, visitor);
+        }
+    }
+
+    /**
+     * One mask operation checks every square of the column at once, counted as that many probes as the
+     * queen searches count theirs; a node without a free row is a backtrack.
+     */
+    private void record(SolverStatistics statistics, int column, long rows, long down, long up) {
+        statistics.node(column);
+        if(column == size) {
+            statistics.solution(column);
+        } else {
+            statistics.probe(column, size);
+            if((~(rows | down | up) & full) == 0) {
+                statistics.backtrack(column);
+            }
+        }
+    }
+
+    /**
+     * The non-attacking placements of the first {@code depth} queens, in lexicographic order.
+     */
+    public List<int[]> prefixes(int depth) {
+        if(depth < 0 || depth > size) {
+            throw new IllegalArgumentException("the depth of prefix should be 0 to " + size);
+        }
+        final List<int[]> prefixes = new ArrayList<int[]>();
+        prefixes(0, 0L, 0L, 0L, new int[depth], prefixes);
+        return prefixes;
+    }
+
+    private void prefixes(int column, long rows, long down, long up, int[] prefix, List<int[]> prefixes) {
+        if(column == prefix.length) {
+            prefixes.add(prefix.clone());
+            return;
+        }
+        long free = ~(rows | down | up) & full;
+        while(free != 0) {
+            long bit = free & -free;
+            free ^= bit;
+            prefix[column] = Long.numberOfTrailingZeros(bit);
+            prefixes(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1, prefix, prefixes);
+        }
+    }
+
+    /**
+     * Number of solutions whose first queens are placed as in {@code prefix}.
+     */
+    public long count(int[] prefix) {
+        long[] masks = masks(prefix);
+        return masks == null ? 0 : count(prefix.length, masks[0], masks[1], masks[2]);
+    }
+
+    /**
+     * Hands every solution extending {@code prefix} to the visitor, in lexicographic order, as rows in
+     * a buffer that is overwritten by the next solution.
+     */
+    public void visit(int[] prefix, Consumer<int[]> visitor) {
+        long[] masks = masks(prefix);
+        if(masks != null) {
+            int[] placement = new int[size];
+            System.arraycopy(prefix, 0, placement, 0, prefix.length);
+            visit(prefix.length, masks[0], masks[1], masks[2], placement, visitor);
+        }
+    }
+
+    private long[] masks(int[] prefix) {
+        if(prefix.length > size) {
+            throw new IllegalArgumentException("the prefix should not be longer than " + size);
+        }
+        long rows = 0;
+        long down = 0;
+        long up = 0;
+        for(int row : prefix) {
+            if(row < 0 || row >= size) {
+                throw new IllegalArgumentException("the row of prefix should be 0 to " + (size - 1));
+            }
+            long bit = 1L << row;
+            if(((rows | down | up) & bit) != 0) {
+                return null;
+            }
+            rows |= bit;
+            down = ((down | bit) << 1) & full;
+            up = (up | bit) >>> 1;
+        }
+        return new long[]{rows, down, up};
+    }
+}
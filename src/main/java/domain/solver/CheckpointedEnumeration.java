@@ -0,0 +1,206 @@
+package domain.solver;
+
+import domain.events.SolverRunEvent;
+import domain.exceptions.CheckpointException;
+import domain.store.SolutionStore;
+import domain.store.SolutionStoreWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates a board one prefix of the first {@code depth} queens at a time, in lexicographic order,
+ * and periodically records in a checkpoint file how many prefixes are complete and the count so far.
+ * A run started on an existing checkpoint resumes after the last recorded prefix. When a store is
+ * given, every prefix is written to its own part file and the parts are concatenated in prefix order
+ * once all are complete, so the store is the same however often the run was interrupted.
+ */
+public class CheckpointedEnumeration {
+    public static final int DEFAULT_DEPTH = 2;
+    public static final long DEFAULT_INTERVAL = 30000;
+
+    private static final String SIZE = "size";
+    private static final String DEPTH = "depth";
+    private static final String STORE = "store";
+    private static final String COMPLETED = "completed";
+    private static final String COUNT = "count";
+    private static final String MERGED = "merged";
+
+    private final BitmaskSolver solver;
+    private final int depth;
+    private final Path checkpoint;
+    private final Path store;
+    private long interval = DEFAULT_INTERVAL;
+
+    public CheckpointedEnumeration(int size, int depth, Path checkpoint) {
+        this(size, depth, checkpoint, null);
+    }
+
+    public CheckpointedEnumeration(int size, int depth, Path checkpoint, Path store) {
+        this.solver = new BitmaskSolver(size);
+        this.depth = Math.min(depth, size);
+        this.checkpoint = checkpoint;
+        this.store = store;
+    }
+
+    public CheckpointedEnumeration setInterval(long interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    public long run() {
+        Properties state = load();
+        if(Boolean.parseBoolean(state.getProperty(MERGED))) {
+            if(store != null) {
+                deleteParts(solver.prefixes(depth).size());
+            }
+            return Long.parseLong(state.getProperty(COUNT));
+        }
+
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        List<int[]> prefixes = solver.prefixes(depth);
+        int completed = Integer.parseInt(state.getProperty(COMPLETED));
+        long count = Long.parseLong(state.getProperty(COUNT));
+        long saved = System.currentTimeMillis();
+
+        for(int i = completed; i < prefixes.size(); i++) {
+            count += store == null ? solver.count(prefixes.get(i)) : writePart(i, prefixes.get(i));
+            onPrefixCompleted(i);
+
+            if(System.currentTimeMillis() - saved >= interval) {
+                save(state, i + 1, count, false);
+                saved = System.currentTimeMillis();
+            }
+        }
+        save(state, prefixes.size(), count, false);
+
+        if(store != null) {
+            merge(prefixes.size());
+        }
+        // Recorded before the parts go, so a run stopped while deleting them need not merge again
+        save(state, prefixes.size(), count, true);
+        if(store != null) {
+            onMerged();
+            deleteParts(prefixes.size());
+        }
+        event.commit(solver.getSize(), "checkpointed", count);
+        return count;
+    }
+
+    /**
+     * Called after each prefix is counted; for tests to stop a run there, as a crash would.
+     */
+    void onPrefixCompleted(int index) {
+    }
+
+    /**
+     * Called once the merge is recorded and before the parts are deleted; for crash tests as well.
+     */
+    void onMerged() {
+    }
+
+    private long writePart(int index, int[] prefix) {
+        final SolutionStoreWriter writer = new SolutionStoreWriter(part(index), solver.getSize(), 0);
+        try {
+            solver.visit(prefix, new Consumer<int[]>() {
+                @Override
+                public void accept(int[] rows) {
+                    writer.write(rows);
+                }
+            });
+        } finally {
+            writer.close();
+        }
+        return writer.getCount();
+    }
+
+    private void merge(int parts) {
+        SolutionStoreWriter writer = new SolutionStoreWriter(store, solver.getSize(),
+                SolutionStore.FLAG_DISTINCT | SolutionStore.FLAG_LEXICOGRAPHIC);
+        try {
+            int[] rows = new int[solver.getSize()];
+            for(int i = 0; i < parts; i++) {
+                SolutionStore part = SolutionStore.open(part(i));
+                try {
+                    for(long k = 0; k < part.count(); k++) {
+                        part.read(k, rows);
+                        writer.write(rows);
+                    }
+                } finally {
+                    part.close();
+                }
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void deleteParts(int parts) {
+        try {
+            for(int i = 0; i < parts; i++) {
+                Files.deleteIfExists(part(i));
+            }
+        } catch(IOException e) {
+            throw new CheckpointException("cannot delete parts of " + store, e);
+        }
+    }
+
+    private Path part(int index) {
+        return store.resolveSibling(store.getFileName() + ".part-" + index);
+    }
+
+    private Properties load() {
+        Properties state = new Properties();
+        if(Files.exists(checkpoint)) {
+            try {
+                InputStream in = Files.newInputStream(checkpoint);
+                try {
+                    state.load(in);
+                } finally {
+                    in.close();
+                }
+            } catch(IOException e) {
+                throw new CheckpointException("cannot read checkpoint " + checkpoint, e);
+            }
+            if(!String.valueOf(solver.getSize()).equals(state.getProperty(SIZE))
+                    || !String.valueOf(depth).equals(state.getProperty(DEPTH))
+                    || !String.valueOf(store != null).equals(state.getProperty(STORE))) {
+                throw new CheckpointException("checkpoint " + checkpoint + " belongs to another enumeration");
+            }
+        } else {
+            state.setProperty(SIZE, String.valueOf(solver.getSize()));
+            state.setProperty(DEPTH, String.valueOf(depth));
+            state.setProperty(STORE, String.valueOf(store != null));
+            state.setProperty(COMPLETED, "0");
+            state.setProperty(COUNT, "0");
+        }
+        return state;
+    }
+
+    private void save(Properties state, int completed, long count, boolean merged) {
+        state.setProperty(COMPLETED, String.valueOf(completed));
+        state.setProperty(COUNT, String.valueOf(count));
+        state.setProperty(MERGED, String.valueOf(merged));
+
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try {
+            OutputStream out = Files.newOutputStream(temporary);
+            try {
+                state.store(out, "N-queens enumeration checkpoint");
+            } finally {
+                out.close();
+            }
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(IOException e) {
+            throw new CheckpointException("cannot write checkpoint " + checkpoint, e);
+        }
+    }
+}
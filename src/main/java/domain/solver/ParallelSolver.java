@@ -0,0 +1,129 @@
+package domain.solver;
+
+import domain.events.SolverRunEvent;
+import domain.Solution;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs the bitmask search on a fork/join pool, forking one task per placement of the queens
+ * in the first {@code splitDepth} columns. Solutions are merged in the order of the serial search.
+ */
+public class ParallelSolver {
+    public static final int DEFAULT_SPLIT_DEPTH = 2;
+
+    private final BitmaskSolver solver;
+    private final ForkJoinPool pool;
+    private final int splitDepth;
+
+    public ParallelSolver(int size) {
+        this(size, ForkJoinPool.commonPool(), DEFAULT_SPLIT_DEPTH);
+    }
+
+    public ParallelSolver(int size, ForkJoinPool pool, int splitDepth) {
+        if(splitDepth < 0) {
+            throw new IllegalArgumentException("the split depth should not be negative");
+        }
+        this.solver = new BitmaskSolver(size);
+        this.pool = pool;
+        this.splitDepth = Math.min(splitDepth, size);
+    }
+
+    public int getSize() {
+        return solver.getSize();
+    }
+
+    public long count() {
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        long count = pool.invoke(new CountTask(0, 0L, 0L, 0L));
+        event.commit(solver.getSize(), "parallel", count);
+        return count;
+    }
+
+    public List<Solution> solutions() {
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        List<Solution> solutions = pool.invoke(new CollectTask(0, 0L, 0L, 0L, new int[solver.getSize()]));
+        event.commit(solver.getSize(), "parallel", solutions.size());
+        return solutions;
+    }
+
+    private class CountTask extends RecursiveTask<Long> {
+        private final int column;
+        private final long rows;
+        private final long down;
+        private final long up;
+
+        CountTask(int column, long rows, long down, long up) {
+            this.column = column;
+            this.rows = rows;
+            this.down = down;
+            this.up = up;
+        }
+
+        @Override
+        protected Long compute() {
+            if(column >= splitDepth) {
+                return solver.count(column, rows, down, up);
+            }
+            long full = solver.getFull();
+            List<CountTask> tasks = new ArrayList<CountTask>();
+            long free = ~(rows | down | up) & full;
+            while(free != 0) {
+                long bit = free & -free;
+                free ^= bit;
+                tasks.add(new CountTask(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1));
+            }
+            long total = 0;
+            for(CountTask task : invokeAll(tasks)) {
+                total += task.join();
+            }
+            return total;
+        }
+    }
+
+    private class CollectTask extends RecursiveTask<List<Solution>> {
+        private final int column;
+        private final long rows;
+        private final long down;
+        private final long up;
+        private final int[] placement;
+
+        CollectTask(int column, long rows, long down, long up, int[] placement) {
+            this.column = column;
+            this.rows = rows;
+            this.down = down;
+            this.up = up;
+            this.placement = placement;
+        }
+
+        @Override
+        protected List<Solution> compute() {
+            if(column >= splitDepth) {
+                List<Solution> solutions = new LinkedList<Solution>();
+                solver.collect(column, rows, down, up, placement, solutions);
+                return solutions;
+            }
+            long full = solver.getFull();
+            List<CollectTask> tasks = new ArrayList<CollectTask>();
+            long free = ~(rows | down | up) & full;
+            while(free != 0) {
+                long bit = free & -free;
+                free ^= bit;
+                int[] next = placement.clone();
+                next[column] = Long.numberOfTrailingZeros(bit);
+                tasks.add(new CollectTask(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1, next));
+            }
+            List<Solution> solutions = new LinkedList<Solution>();
+            for(CollectTask task : invokeAll(tasks)) {
+                solutions.addAll(task.join());
+            }
+            return solutions;
+        }
+    }
+}
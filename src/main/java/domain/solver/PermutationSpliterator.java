@@ -0,0 +1,135 @@
+package domain.solver;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy source of the permutations of 0..size-1 in lexicographic order, built in a single
+ * {@code int[]} buffer that is handed to the consumer on every advance and overwritten by the next
+ * one, so consumers have to copy what they keep. When pruning, prefixes that already put two
+ * queens on a diagonal are skipped, which leaves exactly the non-attacking placements.
+ */
+public class PermutationSpliterator implements Spliterator<int[]> {
+    private final int size;
+    private final long full;
+    private final boolean pruning;
+    private final int[] buffer;
+
+    private int base;
+    private long used;
+    private long down;
+    private long up;
+    private long candidates;
+
+    private long[] free;
+    private long[] usedAt;
+    private long[] downAt;
+    private long[] upAt;
+    private int column = -1;
+
+    public PermutationSpliterator(int size, boolean pruning) {
+        this(BitmaskSolver.mask(size), size, pruning, 0, 0L, 0L, 0L, BitmaskSolver.mask(size), new int[size]);
+    }
+
+    private PermutationSpliterator(long full, int size, boolean pruning, int base, long used, long down, long up,
+                                   long candidates, int[] buffer) {
+        this.full = full;
+        this.candidates = candidates;
+        this.size = size;
+        this.pruning = pruning;
+        this.base = base;
+        this.used = used;
+        this.down = down;
+        this.up = up;
+        this.buffer = buffer;
+    }
+
+    private long blocked(long used, long down, long up) {
+        return pruning ? used | down | up : used;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[]> action) {
+        if(column < 0) {
+            start();
+        }
+        while(column >= base) {
+            if(free[column] == 0) {
+                column--;
+                continue;
+            }
+            long bit = free[column] & -free[column];
+            free[column] ^= bit;
+            buffer[column] = Long.numberOfTrailingZeros(bit);
+            if(column == size - 1) {
+                action.accept(buffer);
+                return true;
+            }
+            usedAt[column + 1] = usedAt[column] | bit;
+            downAt[column + 1] = ((downAt[column] | bit) << 1) & full;
+            upAt[column + 1] = (upAt[column] | bit) >>> 1;
+            free[column + 1] = ~blocked(usedAt[column + 1], downAt[column + 1], upAt[column + 1]) & full;
+            column++;
+        }
+        return false;
+    }
+
+    private void start() {
+        free = new long[size];
+        usedAt = new long[size];
+        downAt = new long[size];
+        upAt = new long[size];
+        column = base;
+        usedAt[base] = used;
+        downAt[base] = down;
+        upAt[base] = up;
+        free[base] = candidates & ~blocked(used, down, up);
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+        if(column >= 0) {
+            return null;
+        }
+        long available = candidates & ~blocked(used, down, up);
+        int count = Long.bitCount(available);
+        if(count >= 2) {
+            long lower = 0;
+            for(int i = 0; i < count / 2; i++) {
+                lower |= (available & ~lower) & -(available & ~lower);
+            }
+            candidates = available ^ lower;
+            return new PermutationSpliterator(full, size, pruning, base, used, down, up, lower, buffer.clone());
+        }
+        if(count == 1 && base < size - 1) {
+            buffer[base] = Long.numberOfTrailingZeros(available);
+            used |= available;
+            down = ((down | available) << 1) & full;
+            up = (up | available) >>> 1;
+            base++;
+            candidates = full;
+            return trySplit();
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        if(pruning || column >= 0) {
+            return Long.MAX_VALUE;
+        }
+        long estimate = Long.bitCount(candidates & ~used);
+        for(int i = size - base - 1; i > 1; i--) {
+            if(estimate > Long.MAX_VALUE / i) {
+                return Long.MAX_VALUE;
+            }
+            estimate *= i;
+        }
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL;
+    }
+}
@@ -0,0 +1,87 @@
+package domain.solver;
+
+import domain.Solution;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull-based form of the bitmask search: the recursion is unrolled onto per-column stacks,
+ * so each call to {@link #next()} resumes the search where the previous solution was found.
+ */
+public class SolutionIterator implements Iterator<Solution> {
+    private final BitmaskSolver solver;
+    private final int size;
+    private final int base;
+    private final int[] placement;
+    private final long[] free;
+    private final long[] rows;
+    private final long[] down;
+    private final long[] up;
+    private int column;
+    private Solution next;
+
+    public SolutionIterator(int size) {
+        this(new BitmaskSolver(size));
+    }
+
+    private SolutionIterator(BitmaskSolver solver) {
+        this(solver, 0, 0L, 0L, 0L, solver.getFull(), new int[solver.getSize()]);
+    }
+
+    SolutionIterator(BitmaskSolver solver, int base, long rows, long down, long up, long candidates, int[] prefix) {
+        this.solver = solver;
+        this.size = solver.getSize();
+        this.base = base;
+        this.placement = prefix.clone();
+        this.free = new long[size];
+        this.rows = new long[size];
+        this.down = new long[size];
+        this.up = new long[size];
+        this.column = base;
+        this.rows[base] = rows;
+        this.down[base] = down;
+        this.up[base] = up;
+        this.free[base] = candidates & ~(rows | down | up);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Solution next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Solution solution = next;
+        next = null;
+        return solution;
+    }
+
+    private Solution advance() {
+        long full = solver.getFull();
+        while(column >= base) {
+            if(free[column] == 0) {
+                column--;
+                continue;
+            }
+            long bit = free[column] & -free[column];
+            free[column] ^= bit;
+            placement[column] = Long.numberOfTrailingZeros(bit);
+            if(column == size - 1) {
+                return solver.solution(placement);
+            }
+            rows[column + 1] = rows[column] | bit;
+            down[column + 1] = ((down[column] | bit) << 1) & full;
+            up[column + 1] = (up[column] | bit) >>> 1;
+            free[column + 1] = ~(rows[column + 1] | down[column + 1] | up[column + 1]) & full;
+            column++;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package domain.solver;
+
+import domain.Solution;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Covers the subtrees of the bitmask search rooted at a set of candidate rows in one column.
+ * Splitting hands the lower half of the candidates to the new spliterator, descending into the
+ * next column once a single candidate is left, so encounter order is that of the serial search.
+ */
+public class SolutionSpliterator implements Spliterator<Solution> {
+    private final BitmaskSolver solver;
+    private int column;
+    private long rows;
+    private long down;
+    private long up;
+    private long candidates;
+    private final int[] placement;
+    private SolutionIterator iterator;
+
+    public SolutionSpliterator(int size) {
+        this(new BitmaskSolver(size));
+    }
+
+    private SolutionSpliterator(BitmaskSolver solver) {
+        this(solver, 0, 0L, 0L, 0L, solver.getFull(), new int[solver.getSize()]);
+    }
+
+    private SolutionSpliterator(BitmaskSolver solver, int column, long rows, long down, long up,
+                                long candidates, int[] placement) {
+        this.solver = solver;
+        this.column = column;
+        this.rows = rows;
+        this.down = down;
+        this.up = up;
+        this.candidates = candidates & ~(rows | down | up);
+        this.placement = placement;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Solution> action) {
+        if(iterator == null) {
+            iterator = new SolutionIterator(solver, column, rows, down, up, candidates, placement);
+        }
+        if(!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<Solution> trySplit() {
+        if(iterator != null) {
+            return null;
+        }
+        int available = Long.bitCount(candidates);
+        if(available >= 2) {
+            long lower = 0;
+            for(int i = 0; i < available / 2; i++) {
+                lower |= (candidates & ~lower) & -(candidates & ~lower);
+            }
+            candidates ^= lower;
+            return new SolutionSpliterator(solver, column, rows, down, up, lower, placement.clone());
+        }
+        if(available == 1 && column < solver.getSize() - 1) {
+            long full = solver.getFull();
+            placement[column] = Long.numberOfTrailingZeros(candidates);
+            rows |= candidates;
+            down = ((down | candidates) << 1) & full;
+            up = (up | candidates) >>> 1;
+            column++;
+            candidates = ~(rows | down | up) & full;
+            return trySplit();
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+}
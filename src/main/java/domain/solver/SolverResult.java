@@ -0,0 +1,93 @@
+package domain.solver;
+
+import domain.Solution;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What a {@link SolverRun} found. A run that was cancelled or ran out of time carries a continuation:
+ * every solution before it in lexicographic order has been found, and a run started from it finds the rest.
+ */
+public class SolverResult {
+    private final int size;
+    private final List<Solution> solutions;
+    private final long count;
+    private final long nodes;
+    private final int[] continuation;
+
+    SolverResult(int size, List<Solution> solutions, long count, long nodes, int[] continuation) {
+        this.size = size;
+        this.solutions = Collections.unmodifiableList(solutions);
+        this.count = count;
+        this.nodes = nodes;
+        this.continuation = continuation;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The solutions found, empty when the run only counted them.
+     */
+    public List<Solution> getSolutions() {
+        return solutions;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public boolean isComplete() {
+        return continuation == null;
+    }
+
+    /**
+     * The token to resume from, or {@code null} when the search is complete.
+     */
+    public String getContinuation() {
+        if(continuation == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(size).append(':');
+        for(int i = 0; i < continuation.length; i++) {
+            sb.append(i == 0 ? "" : ",").append(continuation[i]);
+        }
+        return sb.toString();
+    }
+
+    static int[] parseContinuation(int size, String token) {
+        int colon = token.indexOf(':');
+        if(colon < 0 || Integer.parseInt(token.substring(0, colon)) != size) {
+            throw new IllegalArgumentException("continuation " + token + " does not belong to a board of " + size);
+        }
+        String rows = token.substring(colon + 1);
+        if(rows.isEmpty()) {
+            return new int[0];
+        }
+        String[] parts = rows.split(",");
+        if(parts.length > size) {
+            throw new IllegalArgumentException("continuation " + token + " is longer than the board");
+        }
+        int[] path = new int[parts.length];
+        for(int i = 0; i < parts.length; i++) {
+            path[i] = Integer.parseInt(parts[i]);
+            if(path[i] < 0 || path[i] >= size) {
+                throw new IllegalArgumentException("continuation " + token + " is off the board");
+            }
+        }
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return "N=" + size + " solutions: " + count + " nodes: " + nodes
+                + (isComplete() ? "" : " continue at " + getContinuation());
+    }
+}
@@ -0,0 +1,236 @@
+package domain.solver;
+
+import domain.Solution;
+import domain.events.SolverRunEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Handle on a bitmask search that can be watched, cancelled and given a time limit. The search checks
+ * for cancellation and the deadline every {@code CHECK_INTERVAL} nodes, and then stops with the
+ * solutions found so far and a continuation to resume from.
+ */
+public class SolverRun {
+    static final int CHECK_INTERVAL = 1 << 12;
+
+    private final BitmaskSolver solver;
+    private final int size;
+    private final long full;
+    private final int[] resume;
+    private boolean collecting = true;
+    private long timeout;
+
+    private final int[] placement;
+    private final int[] taken;
+    private final int[] branches;
+    private final List<Solution> solutions = new ArrayList<Solution>();
+    private long nodes;
+    private long count;
+    private long deadline;
+    private int[] continuation;
+
+    private volatile boolean cancelled;
+    private volatile long publishedNodes;
+    private volatile long publishedCount;
+    private volatile double progress;
+    private volatile long started;
+    private volatile long finished;
+    private FutureTask<SolverResult> task;
+
+    public SolverRun(int size) {
+        this(size, null);
+    }
+
+    /**
+     * A run that resumes from the continuation of an earlier one, or starts afresh when it is {@code null}.
+     */
+    public SolverRun(int size, String continuation) {
+        this.solver = new BitmaskSolver(size);
+        this.size = size;
+        this.full = solver.getFull();
+        this.resume = continuation == null ? new int[0] : SolverResult.parseContinuation(size, continuation);
+        this.placement = new int[size];
+        this.taken = new int[size + 1];
+        this.branches = new int[size + 1];
+    }
+
+    public SolverRun setCollecting(boolean collecting) {
+        this.collecting = collecting;
+        return this;
+    }
+
+    /**
+     * Stops the search {@code timeout} milliseconds after it starts; 0 for no limit.
+     */
+    public SolverRun setTimeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Starts the search on a daemon thread.
+     */
+    public SolverRun start() {
+        Thread thread = new Thread(newTask(), "solver-" + size);
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * Runs the search on the calling thread.
+     */
+    public SolverResult run() {
+        newTask().run();
+        return await();
+    }
+
+    private synchronized FutureTask<SolverResult> newTask() {
+        if(task != null) {
+            throw new IllegalStateException("the run has already started");
+        }
+        task = new FutureTask<SolverResult>(new Callable<SolverResult>() {
+            @Override
+            public SolverResult call() {
+                return search();
+            }
+        });
+        return task;
+    }
+
+    public SolverResult await() {
+        FutureTask<SolverResult> started;
+        synchronized(this) {
+            started = task;
+        }
+        if(started == null) {
+            throw new IllegalStateException("the run has not started");
+        }
+        try {
+            return started.get();
+        } catch(InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the run", e);
+        } catch(ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return finished != 0;
+    }
+
+    public long getNodes() {
+        return publishedNodes;
+    }
+
+    public long getSolutions() {
+        return publishedCount;
+    }
+
+    /**
+     * Estimated fraction of the search tree behind the run, assuming siblings have subtrees of equal size.
+     */
+    public double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Nodes explored per second.
+     */
+    public double getRate() {
+        long from = started;
+        if(from == 0) {
+            return 0;
+        }
+        long to = finished != 0 ? finished : System.nanoTime();
+        return to == from ? 0 : publishedNodes * 1e9 / (to - from);
+    }
+
+    private SolverResult search() {
+        started = System.nanoTime();
+        deadline = timeout > 0 ? started + timeout * 1000000L : 0;
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        try {
+            visit(0, 0L, 0L, 0L, true);
+            publish(continuation == null ? 1.0 : estimate(continuation.length));
+            event.commit(size, continuation == null ? "run" : "run (stopped)", count);
+            return new SolverResult(size, solutions, count, nodes, continuation);
+        } finally {
+            finished = System.nanoTime();
+        }
+    }
+
+    private boolean visit(int column, long rows, long down, long up, boolean resuming) {
+        if((++nodes & (CHECK_INTERVAL - 1)) == 0) {
+            publish(estimate(column));
+            if(cancelled || (deadline != 0 && System.nanoTime() - deadline >= 0)) {
+                continuation = new int[column];
+                System.arraycopy(placement, 0, continuation, 0, column);
+                return false;
+            }
+        }
+        if(column == size) {
+            count++;
+            if(collecting) {
+                solutions.add(solver.solution(placement));
+            }
+            return true;
+        }
+
+        long free = ~(rows | down | up) & full;
+        branches[column] = Long.bitCount(free);
+        taken[column] = 0;
+        boolean onPath = resuming && column < resume.length;
+        if(onPath) {
+            long before = free & ((1L << resume[column]) - 1);
+            taken[column] = Long.bitCount(before);
+            free &= ~before;
+        }
+        while(free != 0) {
+            long bit = free & -free;
+            free ^= bit;
+            placement[column] = Long.numberOfTrailingZeros(bit);
+            if(!visit(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1,
+                    onPath && placement[column] == resume[column])) {
+                return false;
+            }
+            taken[column]++;
+            onPath = false;
+        }
+        return true;
+    }
+
+    private double estimate(int depth) {
+        double fraction = 0;
+        double share = 1;
+        for(int column = 0; column < depth; column++) {
+            fraction += share * taken[column] / branches[column];
+            share /= branches[column];
+        }
+        return fraction;
+    }
+
+    private void publish(double estimate) {
+        publishedNodes = nodes;
+        publishedCount = count;
+        progress = estimate;
+    }
+}
@@ -0,0 +1,110 @@
+package domain.solver;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Opt-in counters of a search, per depth: nodes entered, backtracks, attack probes and solutions found.
+ * The solvers look up the active collector once per node and record nothing while there is none, so
+ * leaving statistics off costs them a field read and a branch. The counters are allocated a chunk of
+ * depths at a time as searches reach them, and depths from {@link #MAX_DEPTH} on are not recorded.
+ */
+public final class SolverStatistics {
+    public static final int MAX_DEPTH = 1 << 16;
+
+    private static final int CHUNK = 64;
+    private static final int NODES = 0;
+    private static final int BACKTRACKS = 1;
+    private static final int PROBES = 2;
+    private static final int SOLUTIONS = 3;
+
+    private static volatile SolverStatistics active;
+
+    private final AtomicReferenceArray<AtomicLongArray> chunks =
+            new AtomicReferenceArray<AtomicLongArray>(MAX_DEPTH / CHUNK);
+
+    private SolverStatistics() {
+    }
+
+    /**
+     * Starts recording every search on any thread into a fresh collector.
+     */
+    public static SolverStatistics enable() {
+        SolverStatistics statistics = new SolverStatistics();
+        active = statistics;
+        return statistics;
+    }
+
+    /**
+     * Stops recording and returns what was recorded, or {@code null} if nothing was.
+     */
+    public static StatisticsSnapshot disable() {
+        SolverStatistics statistics = active;
+        active = null;
+        return statistics == null ? null : statistics.snapshot();
+    }
+
+    /**
+     * The collector searches should record into, or {@code null} when statistics are off.
+     */
+    public static SolverStatistics active() {
+        return active;
+    }
+
+    public void node(int depth) {
+        add(NODES, depth, 1);
+    }
+
+    public void backtrack(int depth) {
+        add(BACKTRACKS, depth, 1);
+    }
+
+    /**
+     * One square at {@code depth} checked for attack.
+     */
+    public void probe(int depth) {
+        add(PROBES, depth, 1);
+    }
+
+    public void probe(int depth, int squares) {
+        add(PROBES, depth, squares);
+    }
+
+    public void solution(int depth) {
+        add(SOLUTIONS, depth, 1);
+    }
+
+    private void add(int counter, int depth, int delta) {
+        if(depth < 0 || depth >= MAX_DEPTH) {
+            return;
+        }
+        AtomicLongArray chunk = chunks.get(depth / CHUNK);
+        if(chunk == null) {
+            chunks.compareAndSet(depth / CHUNK, null, new AtomicLongArray(4 * CHUNK));
+            chunk = chunks.get(depth / CHUNK);
+        }
+        chunk.addAndGet(counter * CHUNK + depth % CHUNK, delta);
+    }
+
+    public StatisticsSnapshot snapshot() {
+        int depths = 0;
+        for(int i = 0; i < chunks.length(); i++) {
+            if(chunks.get(i) != null) {
+                depths = (i + 1) * CHUNK;
+            }
+        }
+        return new StatisticsSnapshot(copy(NODES, depths), copy(BACKTRACKS, depths), copy(PROBES, depths),
+                copy(SOLUTIONS, depths));
+    }
+
+    private long[] copy(int counter, int depths) {
+        long[] values = new long[depths];
+        for(int i = 0; i < depths; i++) {
+            AtomicLongArray chunk = chunks.get(i / CHUNK);
+            if(chunk != null) {
+                values[i] = chunk.get(counter * CHUNK + i % CHUNK);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,87 @@
+package domain.solver;
+
+import java.util.Arrays;
+
+/**
+ * Counters of {@link SolverStatistics} at one moment, indexed by search depth.
+ */
+public class StatisticsSnapshot {
+    private final long[] nodes;
+    private final long[] backtracks;
+    private final long[] probes;
+    private final long[] solutions;
+    private final int depths;
+
+    StatisticsSnapshot(long[] nodes, long[] backtracks, long[] probes, long[] solutions) {
+        int depths = 0;
+        for(int i = 0; i < nodes.length; i++) {
+            if(nodes[i] != 0 || backtracks[i] != 0 || probes[i] != 0 || solutions[i] != 0) {
+                depths = i + 1;
+            }
+        }
+        this.depths = depths;
+        this.nodes = Arrays.copyOf(nodes, depths);
+        this.backtracks = Arrays.copyOf(backtracks, depths);
+        this.probes = Arrays.copyOf(probes, depths);
+        this.solutions = Arrays.copyOf(solutions, depths);
+    }
+
+    /**
+     * One more than the deepest depth with anything recorded.
+     */
+    public int getDepths() {
+        return depths;
+    }
+
+    public long getNodes(int depth) {
+        return depth < depths ? nodes[depth] : 0;
+    }
+
+    public long getBacktracks(int depth) {
+        return depth < depths ? backtracks[depth] : 0;
+    }
+
+    public long getProbes(int depth) {
+        return depth < depths ? probes[depth] : 0;
+    }
+
+    public long getSolutions(int depth) {
+        return depth < depths ? solutions[depth] : 0;
+    }
+
+    public long getNodes() {
+        return sum(nodes);
+    }
+
+    public long getBacktracks() {
+        return sum(backtracks);
+    }
+
+    public long getProbes() {
+        return sum(probes);
+    }
+
+    public long getSolutions() {
+        return sum(solutions);
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for(long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        String row = "%5s %14s %14s %14s %12s%n";
+        sb.append(String.format(row, "depth", "nodes", "backtracks", "probes", "solutions"));
+        for(int depth = 0; depth < depths; depth++) {
+            sb.append(String.format(row, depth, nodes[depth], backtracks[depth], probes[depth], solutions[depth]));
+        }
+        sb.append(String.format(row, "total", getNodes(), getBacktracks(), getProbes(), getSolutions()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package domain.solver;
+
+public class SymmetryCount {
+    private final int size;
+    private final long distinct;
+    private final long unique;
+    private final long symmetricBy90;
+    private final long symmetricBy180;
+
+    public SymmetryCount(int size, long distinct, long unique, long symmetricBy90, long symmetricBy180) {
+        this.size = size;
+        this.distinct = distinct;
+        this.unique = unique;
+        this.symmetricBy90 = symmetricBy90;
+        this.symmetricBy180 = symmetricBy180;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getDistinct() {
+        return distinct;
+    }
+
+    public long getUnique() {
+        return unique;
+    }
+
+    public long getSymmetricBy90() {
+        return symmetricBy90;
+    }
+
+    public long getSymmetricBy180() {
+        return symmetricBy180;
+    }
+
+    @Override
+    public String toString() {
+        return "N=" + size + " distinct: " + distinct + " unique: " + unique;
+    }
+}
@@ -0,0 +1,86 @@
+package domain.solver;
+
+import domain.events.SolverRunEvent;
+
+/**
+ * Counts distinct and unique (up to rotation and reflection) solutions without enumerating them.
+ * Only placements with the first queen in the upper half of the board are searched, the mirrored
+ * half is accounted for by doubling, and the unique total follows from Burnside's lemma:
+ * no solution of a board larger than 1 is symmetric under a reflection, so the orbits are
+ * (all + 2 * symmetricBy90 + symmetricBy180) / 8.
+ */
+public class SymmetryCounter {
+    private final BitmaskSolver solver;
+    private final int size;
+    private final int[] placement;
+    private final int[] inverse;
+
+    private long half;
+    private long halfBy90;
+    private long halfBy180;
+
+    public SymmetryCounter(int size) {
+        this.solver = new BitmaskSolver(size);
+        this.size = size;
+        this.placement = new int[size];
+        this.inverse = new int[size];
+    }
+
+    public synchronized SymmetryCount count() {
+        SolverRunEvent event = new SolverRunEvent();
+        event.begin();
+        long lowerHalf = (1L << (size / 2)) - 1;
+
+        half = halfBy90 = halfBy180 = 0;
+        search(0, 0L, 0L, 0L, lowerHalf);
+        long distinct = 2 * half;
+        long by90 = 2 * halfBy90;
+        long by180 = 2 * halfBy180;
+
+        if(size % 2 == 1) {
+            half = halfBy90 = halfBy180 = 0;
+            search(0, 0L, 0L, 0L, 1L << (size / 2));
+            distinct += half;
+            by90 += halfBy90;
+            by180 += halfBy180;
+        }
+
+        long unique = size == 1 ? 1 : (distinct + 2 * by90 + by180) / 8;
+        event.commit(size, "symmetry", distinct);
+        return new SymmetryCount(size, distinct, unique, by90, by180);
+    }
+
+    private void search(int column, long rows, long down, long up, long allowed) {
+        if(column == size) {
+            record();
+            return;
+        }
+        long full = solver.getFull();
+        long free = ~(rows | down | up) & allowed;
+        while(free != 0) {
+            long bit = free & -free;
+            free ^= bit;
+            placement[column] = Long.numberOfTrailingZeros(bit);
+            search(column + 1, rows | bit, ((down | bit) << 1) & full, (up | bit) >>> 1, full);
+        }
+    }
+
+    private void record() {
+        half++;
+        for(int i = 0; i < size; i++) {
+            if(placement[size - 1 - i] != size - 1 - placement[i]) {
+                return;
+            }
+        }
+        halfBy180++;
+        for(int i = 0; i < size; i++) {
+            inverse[placement[i]] = i;
+        }
+        for(int i = 0; i < size; i++) {
+            if(placement[i] != size - 1 - inverse[i]) {
+                return;
+            }
+        }
+        halfBy90++;
+    }
+}
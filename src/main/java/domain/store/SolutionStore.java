@@ -0,0 +1,142 @@
+package domain.store;
+
+import domain.Solution;
+import domain.exceptions.SolutionStoreException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only view of a store file. The records are memory-mapped in segments of whole records,
+ * each below 2GB, so solution #k is found in constant time without reading the file onto the heap.
+ */
+public class SolutionStore implements Iterable<Solution>, Closeable {
+    public static final int FLAG_DISTINCT = 1;
+    public static final int FLAG_UNIQUE = 2;
+    public static final int FLAG_LEXICOGRAPHIC = 4;
+
+    private final Path path;
+    private final StoreFormat format;
+    private final long count;
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long recordsPerSegment;
+
+    private SolutionStore(Path path) {
+        this.path = path;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            ByteBuffer header = ByteBuffer.allocate(StoreFormat.HEADER_SIZE);
+            while(header.hasRemaining()) {
+                if(channel.read(header) < 0) {
+                    throw new SolutionStoreException("truncated header in " + path);
+                }
+            }
+            format = StoreFormat.readHeader(header);
+            count = StoreFormat.readCount(header);
+
+            long length = count * format.recordBytes;
+            if(channel.size() < StoreFormat.HEADER_SIZE + length) {
+                throw new SolutionStoreException("truncated records in " + path);
+            }
+            recordsPerSegment = Integer.MAX_VALUE / format.recordBytes;
+            int segmentCount = (int) ((count + recordsPerSegment - 1) / recordsPerSegment);
+            segments = new MappedByteBuffer[segmentCount];
+            for(int i = 0; i < segmentCount; i++) {
+                long first = i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, count - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        StoreFormat.HEADER_SIZE + first * format.recordBytes, records * format.recordBytes);
+            }
+        } catch(IOException e) {
+            throw new SolutionStoreException("cannot open solution store " + path, e);
+        }
+    }
+
+    public static SolutionStore open(Path path) {
+        return new SolutionStore(path);
+    }
+
+    public static long write(Path path, int size, int flags, Iterable<Solution> solutions) {
+        SolutionStoreWriter writer = new SolutionStoreWriter(path, size, flags);
+        try {
+            writer.writeAll(solutions);
+        } finally {
+            writer.close();
+        }
+        return writer.getCount();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getSize() {
+        return format.size;
+    }
+
+    public int getFlags() {
+        return format.flags;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Reads the rows of solution #k into {@code rows} without allocating.
+     */
+    public void read(long k, int[] rows) {
+        if(k < 0 || k >= count) {
+            throw new IndexOutOfBoundsException("solution " + k + " of " + count);
+        }
+        int position = (int) (k % recordsPerSegment) * format.recordBytes;
+        format.unpack(segments[(int) (k / recordsPerSegment)], position, rows);
+    }
+
+    public Solution get(long k) {
+        int[] rows = new int[format.size];
+        read(k, rows);
+        Solution solution = new Solution(format.size);
+        for(int row : rows) {
+            solution.augment(row);
+        }
+        return solution;
+    }
+
+    @Override
+    public Iterator<Solution> iterator() {
+        return new Iterator<Solution>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public Solution next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch(IOException e) {
+            throw new SolutionStoreException("cannot close solution store " + path, e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package domain.store;
+
+import domain.Solution;
+import domain.exceptions.SolutionStoreException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams solutions of one board size into a store file; the count in the header is filled in on close.
+ */
+public class SolutionStoreWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final StoreFormat format;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final byte[] record;
+    private final int[] rows;
+    private long count;
+
+    public SolutionStoreWriter(Path path, int size, int flags) {
+        this.format = new StoreFormat(size, flags);
+        this.record = new byte[format.recordBytes];
+        this.rows = new int[size];
+        this.buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, format.recordBytes));
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer header = ByteBuffer.allocate(StoreFormat.HEADER_SIZE);
+            format.writeHeader(header, 0);
+            header.flip();
+            channel.write(header);
+        } catch(IOException e) {
+            throw new SolutionStoreException("cannot create solution store " + path, e);
+        }
+    }
+
+    public void write(Solution solution) {
+        if(solution.getSize() != format.size) {
+            throw new SolutionStoreException("solution is not of board size " + format.size);
+        }
+        for(int i = 0; i < format.size; i++) {
+            rows[i] = solution.row(i);
+        }
+        write(rows);
+    }
+
+    public void write(int[] rows) {
+        format.pack(rows, record);
+        if(buffer.remaining() < record.length) {
+            flush();
+        }
+        buffer.put(record);
+        count++;
+    }
+
+    public void writeAll(Iterable<Solution> solutions) {
+        for(Solution solution : solutions) {
+            write(solution);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch(IOException e) {
+            throw new SolutionStoreException("cannot write solution store", e);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        ByteBuffer countBuffer = ByteBuffer.allocate(8);
+        countBuffer.putLong(count).flip();
+        try {
+            channel.write(countBuffer, StoreFormat.COUNT_OFFSET);
+            channel.close();
+        } catch(IOException e) {
+            throw new SolutionStoreException("cannot close solution store", e);
+        }
+    }
+}
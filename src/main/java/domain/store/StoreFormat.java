@@ -0,0 +1,96 @@
+package domain.store;
+
+import domain.exceptions.SolutionStoreException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a solution store: a 32 byte header followed by one fixed-width record per solution,
+ * the rows packed little-end first with just enough bits per row for the board size.
+ * <pre>
+ *  0 int   magic "8QPS"
+ *  4 short version
+ *  6 short bits per row
+ *  8 int   board size
+ * 12 int   flags
+ * 16 long  count
+ * 24 int   record width in bytes
+ * 28 int   reserved
+ * </pre>
+ */
+final class StoreFormat {
+    static final int MAGIC = 0x38515053;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int COUNT_OFFSET = 16;
+
+    final int size;
+    final int flags;
+    final int bitsPerRow;
+    final int recordBytes;
+
+    StoreFormat(int size, int flags) {
+        if(size < 1 || size > 64) {
+            throw new SolutionStoreException("the size of board should be 1 to 64");
+        }
+        this.size = size;
+        this.flags = flags;
+        this.bitsPerRow = Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+        this.recordBytes = (size * bitsPerRow + 7) / 8;
+    }
+
+    void writeHeader(ByteBuffer header, long count) {
+        header.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) bitsPerRow)
+                .putInt(size)
+                .putInt(flags)
+                .putLong(count)
+                .putInt(recordBytes)
+                .putInt(0);
+    }
+
+    static StoreFormat readHeader(ByteBuffer header) {
+        if(header.getInt(0) != MAGIC) {
+            throw new SolutionStoreException("not a solution store");
+        }
+        if(header.getShort(4) != VERSION) {
+            throw new SolutionStoreException("unsupported solution store version");
+        }
+        StoreFormat format = new StoreFormat(header.getInt(8), header.getInt(12));
+        if(header.getShort(6) != format.bitsPerRow || header.getInt(24) != format.recordBytes) {
+            throw new SolutionStoreException("corrupt solution store header");
+        }
+        return format;
+    }
+
+    static long readCount(ByteBuffer header) {
+        return header.getLong(COUNT_OFFSET);
+    }
+
+    void pack(int[] rows, byte[] record) {
+        for(int i = 0; i < record.length; i++) {
+            record[i] = 0;
+        }
+        for(int i = 0; i < size; i++) {
+            int offset = i * bitsPerRow;
+            int value = rows[i] << (offset & 7);
+            record[offset >> 3] |= (byte) value;
+            if((offset & 7) + bitsPerRow > 8) {
+                record[(offset >> 3) + 1] |= (byte) (value >>> 8);
+            }
+        }
+    }
+
+    void unpack(ByteBuffer records, int position, int[] rows) {
+        int mask = (1 << bitsPerRow) - 1;
+        for(int i = 0; i < size; i++) {
+            int offset = i * bitsPerRow;
+            int value = (records.get(position + (offset >> 3)) & 0xFF) >>> (offset & 7);
+            if((offset & 7) + bitsPerRow > 8) {
+                value |= (records.get(position + (offset >> 3) + 1) & 0xFF) << (8 - (offset & 7));
+            }
+            rows[i] = value & mask;
+        }
+    }
+}
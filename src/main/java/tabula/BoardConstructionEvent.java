@@ -0,0 +1,34 @@
+package tabula;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event for building the Swing components of a board.
+ */
+@Name("queens.BoardConstruction")
+@Label("Board Construction")
+@Description("Building the components of a chess board for a position")
+@Category({"N-Queens", "Board"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class BoardConstructionEvent extends Event {
+    @Label("Source")
+    String source;
+
+    @Label("Position")
+    String fen;
+
+    public void commit(String source, String fen) {
+        if(shouldCommit()) {
+            this.source = source;
+            this.fen = fen;
+            commit();
+        }
+    }
+}
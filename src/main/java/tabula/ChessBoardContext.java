@@ -116,11 +116,14 @@ public final class ChessBoardContext {
      */
 
     private void makeBoard(){
+        final BoardConstructionEvent event = new BoardConstructionEvent();
+        event.begin();
         chessBoard = new ChessBoard(light, dark, orientation);
         fenParser = new FENParser(pieceImageSet, chessBoard);
         layeredBoard = new LayeredBoard(chessBoard);
         fenParser.parse(positionFEN);
         if (moveListener != null) layeredBoard.setMoveListener(moveListener);
+        event.commit("ChessBoardContext.getBoardView", positionFEN);
     }
 
 
@@ -0,0 +1,144 @@
+package domain;
+
+import domain.metrics.MetricsRegistry;
+import domain.queen.IQueen;
+import domain.queen.PhantomQueen;
+import domain.queen.Queen;
+import domain.solver.BitmaskSolver;
+import general.AbstractMockTest;
+import general.AllocationMeter;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static junit.framework.Assert.assertTrue;
+
+public class AllocationBudgetTest extends AbstractMockTest {
+
+    private AllocationMeter meter;
+
+    @Before
+    public void
+    createMeter() {
+        meter = new AllocationMeter();
+        Assume.assumeTrue(meter.isSupported());
+    }
+
+    @Test
+    public void
+    countingStaysWithinBudget() {
+        for(int size : new int[]{8, 10, 12}) {
+            final BitmaskSolver solver = new BitmaskSolver(size);
+            assertTrue(meter.withinBudget("solver.count", size, new Runnable() {
+                @Override
+                public void run() {
+                    solver.count();
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void
+    visitingAPrefixStaysWithinBudget() {
+        for(int size : new int[]{8, 10, 12}) {
+            final BitmaskSolver solver = new BitmaskSolver(size);
+            final long[] visited = new long[1];
+            final Consumer<int[]> visitor = new Consumer<int[]>() {
+                @Override
+                public void accept(int[] rows) {
+                    visited[0]++;
+                }
+            };
+            assertTrue(meter.withinBudget("solver.visit", size, new Runnable() {
+                @Override
+                public void run() {
+                    solver.visit(new int[]{1}, visitor);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void
+    fenOfOneSolutionStaysWithinBudget() {
+        for(int size : new int[]{8, 10, 12, 16}) {
+            List<Integer> rows = firstSolution(size).getSolutionList();
+            final FENTranslator translator = new FENTranslator(rows, size);
+            assertTrue(meter.withinBudget("fen.translator", size, new Runnable() {
+                @Override
+                public void run() {
+                    translator.fen();
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void
+    canonicalFormStaysWithinBudget() {
+        for(int size : new int[]{8, 12, 16}) {
+            final Solution solution = firstSolution(size);
+            assertTrue(meter.withinBudget("solution.canonical", size, new Runnable() {
+                @Override
+                public void run() {
+                    solution.canonical();
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void
+    recordingALatencyAllocatesNothing() {
+        final MetricsRegistry registry = new MetricsRegistry();
+        for(final int size : new int[]{8, 12}) {
+            registry.time("call", size, System.nanoTime());
+            assertTrue(meter.withinBudget("metrics.time", size, new Runnable() {
+                @Override
+                public void run() {
+                    registry.time("call", size, System.nanoTime());
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void
+    findingTheSolutionOfAQueenChainStaysWithinBudget() {
+        for(int size : new int[]{8, 12}) {
+            IQueen chain = PhantomQueen.INSTANCE;
+            for(int column = 0; column < size; column++) {
+                chain = new Queen(0, column, chain, size);
+            }
+            final Queen queen = (Queen) chain;
+            assertTrue(meter.withinBudget("queen.findSolution", size, new Runnable() {
+                @Override
+                public void run() {
+                    queen.findSolution();
+                }
+            }));
+        }
+    }
+
+    private Solution firstSolution(int size) {
+        final Solution[] first = new Solution[1];
+        final BitmaskSolver solver = new BitmaskSolver(size);
+        solver.visit(new int[]{1}, new Consumer<int[]>() {
+            @Override
+            public void accept(int[] rows) {
+                if(first[0] == null) {
+                    Solution solution = new Solution(size);
+                    for(int row : rows) {
+                        solution.augment(row);
+                    }
+                    first[0] = solution;
+                }
+            }
+        });
+        return first[0];
+    }
+}
@@ -52,4 +52,24 @@ public class FENTranslatorTest {
         assertEquals("7Q/6Q1/5Q2/4Q3/3Q4/2Q5/1Q6/Q7", new FENTranslator(new LinkedList<Integer>() {{
             add(7); add(6); add(5); add(4); add(3); add(2); add(1); add(0);}}).fen());
     }
+
+    @Test(expected = FENTranslatorException.class)
+    public void
+    ifProvidedWithAListOfSizeOtherThanBoardSize() {
+        new FENTranslator(new LinkedList<Integer>(){{add(1);add(3);add(0);add(2);}}, 5);
+    }
+
+    @Test
+    public void
+    translationOfBoardSize4() {
+        assertEquals("2Q1/Q3/3Q/1Q2", new FENTranslator(new LinkedList<Integer>() {{
+            add(1); add(3); add(0); add(2);}}, 4).fen());
+    }
+
+    @Test
+    public void
+    translationOfBoardSize10() {
+        assertEquals("Q9/1Q8/2Q7/3Q6/4Q5/5Q4/6Q3/7Q2/8Q1/9Q", new FENTranslator(new LinkedList<Integer>() {{
+            add(0); add(1); add(2); add(3); add(4); add(5); add(6); add(7); add(8); add(9);}}, 10).fen());
+    }
 }
@@ -0,0 +1,109 @@
+package domain;
+
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class PlacementBufferTest extends AbstractMockTest {
+
+    @Test
+    public void
+    popsTheLastQueenPushed() {
+        PlacementBuffer buffer = new PlacementBuffer(8);
+        buffer.push(0);
+        buffer.push(4);
+
+        assertEquals(4, buffer.pop());
+        assertEquals(1, buffer.getDepth());
+        assertEquals(0, buffer.row(0));
+    }
+
+    @Test
+    public void
+    snapshotIsIndependentOfTheBuffer() {
+        PlacementBuffer buffer = new PlacementBuffer(4);
+        for(int row : new int[]{1, 3, 0, 2}) {
+            buffer.push(row);
+        }
+        assertTrue(buffer.isComplete());
+
+        Solution solution = buffer.snapshot();
+        buffer.pop();
+        buffer.push(3);
+
+        assertEquals(new Solution(new byte[]{1, 3, 0, 2}, 4), solution);
+        assertEquals(4, solution.getBoardSize());
+    }
+
+    @Test
+    public void
+    snapshotsAPartialPlacement() {
+        PlacementBuffer buffer = new PlacementBuffer(8);
+        buffer.push(5);
+
+        Solution solution = buffer.snapshot();
+
+        assertEquals(1, solution.getSize());
+        assertEquals(8, solution.getBoardSize());
+    }
+
+    @Test
+    public void
+    reusesOneBufferPerThread() throws InterruptedException {
+        final PlacementBuffer buffer = PlacementBuffer.forThread(8);
+        buffer.push(3);
+
+        assertSame(buffer, PlacementBuffer.forThread(10));
+        assertEquals(0, buffer.getDepth());
+        assertEquals(10, buffer.getSize());
+
+        final PlacementBuffer[] other = new PlacementBuffer[1];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other[0] = PlacementBuffer.forThread(8);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNotSame(buffer, other[0]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void
+    cannotPlaceMoreQueensThanTheBoardHas() {
+        PlacementBuffer buffer = new PlacementBuffer(1);
+        buffer.push(0);
+        buffer.push(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void
+    cannotPlaceAQueenOffTheBoard() {
+        new PlacementBuffer(4).push(4);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void
+    cannotPopAnEmptyBuffer() {
+        assertFalse(new PlacementBuffer(4).isComplete());
+        new PlacementBuffer(4).pop();
+    }
+
+    @Test
+    public void
+    keepsRowsOfLargeBoards() {
+        PlacementBuffer buffer = new PlacementBuffer(204);
+        buffer.push(203);
+        buffer.push(150);
+
+        assertEquals(150, buffer.pop());
+        assertEquals(203, buffer.row(0));
+        assertEquals(203, buffer.snapshot().row(0));
+    }
+}
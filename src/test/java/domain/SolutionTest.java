@@ -9,7 +9,9 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
 
 public class SolutionTest extends AbstractMockTest {
 
@@ -18,9 +20,7 @@ public class SolutionTest extends AbstractMockTest {
     @Test
     public void
     encapsulatesListWithNumericSolution() {
-        expectFilledList();
-
-        assertNotNull(new Solution(listMock).getSolutionList());
+        assertNotNull(new Solution(filledList()).getSolutionList());
     }
 
     @Test
@@ -47,9 +47,7 @@ public class SolutionTest extends AbstractMockTest {
     @Test(expected = SolutionException.class)
     public void
     cannotAugmentListPast8() {
-        expectFilledList();
-
-        new Solution(listMock).augment(1);
+        new Solution(filledList()).augment(1);
     }
 
     @Test(expected = SolutionException.class)
@@ -65,13 +63,10 @@ public class SolutionTest extends AbstractMockTest {
         new Solution(listMock);
     }
 
-    private void expectFilledList() {
-        checking(new Expectations() {
-            {
-                exactly(2).of(listMock).size();
-                will(returnValue(8));
-            }
-        });
+    private List<Integer> filledList() {
+        return new LinkedList<Integer>() {{
+            add(0); add(4); add(7); add(5); add(2); add(6); add(1); add(3);
+        }};
     }
 
     @Test
@@ -409,4 +404,222 @@ public class SolutionTest extends AbstractMockTest {
         List<Integer> metadata = solution.getMetadata(Solution.MetaKey.R0);
         assertEquals(0, metadata.size());
     }
+
+    @Test
+    public void
+    defaultBoardSizeIs8() {
+        assertEquals(8, new Solution().getBoardSize());
+    }
+
+    @Test
+    public void
+    canBeAugmentedUpToBoardSize() {
+        Solution solution = new Solution(10);
+        for(int i = 0; i < 10; i++) {
+            solution.augment(i);
+        }
+
+        assertEquals(10, solution.getSolutionList().size());
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotAugmentListPastBoardSize() {
+        Solution solution = new Solution(4);
+        for(int i = 0; i < 5; i++) {
+            solution.augment(i);
+        }
+    }
+
+    @Test
+    public void
+    canTransformSolutionOfBoardSize5() {
+        Solution solution = new Solution(new LinkedList<Integer>() {{
+            add(0); add(2); add(4); add(1); add(3);
+        }}, 5);
+
+        assertEquals(new Solution(new LinkedList<Integer>() {{
+            add(4); add(1); add(3); add(0); add(2);}}, 5), solution.rotateBy90());
+        assertEquals(new Solution(new LinkedList<Integer>() {{
+            add(1); add(3); add(0); add(2); add(4);}}, 5), solution.rotateBy180());
+        assertEquals(new Solution(new LinkedList<Integer>() {{
+            add(2); add(4); add(1); add(3); add(0);}}, 5), solution.rotateBy270());
+        assertEquals(new Solution(new LinkedList<Integer>() {{
+            add(3); add(1); add(4); add(2); add(0);}}, 5), solution.reflect());
+    }
+
+    @Test
+    public void
+    allImagesHaveTheSameCanonicalForm() {
+        Solution solution = new Solution(new LinkedList<Integer>() {{
+            add(1); add(5); add(3); add(2); add(4); add(7); add(0); add(6);
+        }});
+        Solution canonical = solution.canonical();
+
+        assertEquals(canonical, solution.rotateBy90().canonical());
+        assertEquals(canonical, solution.rotateBy180().canonical());
+        assertEquals(canonical, solution.rotateBy270().canonical());
+        assertEquals(canonical, solution.reflect().canonical());
+        assertEquals(canonical, solution.reflect().rotateBy90().canonical());
+        assertEquals(canonical, solution.reflect().rotateBy180().canonical());
+        assertEquals(canonical, solution.reflect().rotateBy270().canonical());
+    }
+
+    @Test
+    public void
+    canonicalFormIsTheLexicographicallySmallestImage() {
+        Solution solution = new Solution(new LinkedList<Integer>() {{
+            add(6); add(2); add(4); add(5); add(3); add(0); add(7); add(1);
+        }});
+
+        assertEquals(new Solution(new LinkedList<Integer>() {{
+            add(1); add(5); add(3); add(2); add(4); add(7); add(0); add(6);}}), solution.canonical());
+    }
+
+    @Test
+    public void
+    isACopyOfTheListItIsInitWith() {
+        List<Integer> list = filledList();
+        Solution solution = new Solution(list);
+
+        list.set(0, 1);
+
+        assertEquals(Integer.valueOf(0), solution.get(0));
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotBeAugmentedWithRowOutsideTheBoard() {
+        new Solution(4).augment(4);
+    }
+
+    @Test
+    public void
+    hashCodeIsTheSameAsOfItsList() {
+        Solution solution = new Solution(filledList());
+
+        assertEquals(filledList().hashCode(), solution.hashCode());
+        assertEquals(new Solution(filledList()).hashCode(), solution.hashCode());
+    }
+
+    @Test
+    public void
+    canBePackedIntoALong() {
+        Solution solution = new Solution(filledList());
+
+        assertEquals(0x31625740L, solution.pack());
+        assertEquals(solution, Solution.unpack(solution.pack(), 8));
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotPackBoardSizePast16() {
+        Solution solution = new Solution(17);
+        for(int i = 0; i < 17; i++) {
+            solution.augment(i);
+        }
+
+        solution.pack();
+    }
+
+    @Test
+    public void
+    imagesAreTheSameAsTransforms() {
+        Solution solution = new Solution(filledList());
+        byte[][] images = new byte[7][8];
+
+        solution.images(images);
+
+        assertEquals(solution.rotateBy90(), new Solution(images[Solution.MetaKey.T90.getMetaIndex()], 8));
+        assertEquals(solution.rotateBy180(), new Solution(images[Solution.MetaKey.T180.getMetaIndex()], 8));
+        assertEquals(solution.rotateBy270(), new Solution(images[Solution.MetaKey.T270.getMetaIndex()], 8));
+        assertEquals(solution.reflect(), new Solution(images[Solution.MetaKey.R0.getMetaIndex()], 8));
+        assertEquals(solution.reflect().rotateBy90(), new Solution(images[Solution.MetaKey.R90.getMetaIndex()], 8));
+        assertEquals(solution.reflect().rotateBy180(), new Solution(images[Solution.MetaKey.R180.getMetaIndex()], 8));
+        assertEquals(solution.reflect().rotateBy270(), new Solution(images[Solution.MetaKey.R270.getMetaIndex()], 8));
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotWriteImagesIntoBufferOfOtherBoardSize() {
+        new Solution(filledList()).images(new byte[7][6]);
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotRotateIncompleteSolution() {
+        Solution solution = new Solution();
+        solution.augment(1);
+
+        solution.rotateBy90();
+    }
+
+    @Test
+    public void
+    keepsRowsPastAByteOnLargeBoards() {
+        Solution solution = new Solution(200);
+        solution.augment(199);
+        solution.augment(128);
+
+        assertEquals(199, solution.row(0));
+        assertEquals(128, solution.row(1));
+
+        solution.setBoardSize(300);
+        assertEquals(199, solution.row(0));
+        assertEquals(new Solution(wideSolution(204).getSolutionList(), 204), wideSolution(204));
+    }
+
+    @Test
+    public void
+    widensRowsWhenTheBoardGrowsPastAByte() {
+        Solution solution = new Solution(8);
+        solution.augment(7);
+        solution.setBoardSize(200);
+        solution.augment(150);
+
+        assertEquals(7, solution.row(0));
+        assertEquals(150, solution.row(1));
+    }
+
+    @Test
+    public void
+    transformsLargeBoards() {
+        Solution solution = wideSolution(204);
+
+        assertEquals(solution, solution.rotateBy90().rotateBy270());
+        assertEquals(solution, solution.reflect().reflect());
+        assertEquals(solution.canonical(), solution.rotateBy90().canonical());
+        assertEquals(203, solution.rotateBy180().row(0) + solution.row(203));
+    }
+
+    @Test
+    public void
+    writesImagesOfAnyBoardIntoInts() {
+        for(int size : new int[]{8, 204}) {
+            Solution solution = wideSolution(size);
+            for(Symmetry symmetry : Symmetry.values()) {
+                int[] image = solution.image(symmetry, new int[size]);
+
+                assertTrue(solution.transform(symmetry).matches(image));
+            }
+        }
+        assertFalse(wideSolution(8).matches(new int[8]));
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotWriteImagesOfLargeBoardsIntoBytes() {
+        wideSolution(204).images(new byte[7][204]);
+    }
+
+    private static Solution wideSolution(int size) {
+        Solution solution = new Solution(size);
+        for(int column = 0; column < size / 2; column++) {
+            solution.augment(2 * column + 1);
+        }
+        for(int column = 0; column < size / 2; column++) {
+            solution.augment(2 * column);
+        }
+        return solution;
+    }
 }
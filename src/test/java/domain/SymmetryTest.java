@@ -0,0 +1,75 @@
+package domain;
+
+import domain.exceptions.SolutionException;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class SymmetryTest extends AbstractMockTest {
+    private static final byte[] ROWS = {0, 4, 7, 5, 2, 6, 1, 3};
+
+    @Test
+    public void
+    compositionMatchesApplyingInTurn() {
+        for(Symmetry first : Symmetry.values()) {
+            for(Symmetry second : Symmetry.values()) {
+                byte[] inTurn = second.apply(first.apply(ROWS, new byte[8]), new byte[8]);
+                byte[] composed = first.then(second).apply(ROWS, new byte[8]);
+
+                assertEquals(new Solution(inTurn, 8), new Solution(composed, 8));
+            }
+        }
+    }
+
+    @Test
+    public void
+    eachSymmetryHasAnInverse() {
+        for(Symmetry symmetry : Symmetry.values()) {
+            assertSame(Symmetry.IDENTITY, symmetry.then(symmetry.inverse()));
+            assertSame(Symmetry.IDENTITY, symmetry.inverse().then(symmetry));
+        }
+    }
+
+    @Test
+    public void
+    reflectionsAreTheReflectFollowedByTheRotation() {
+        assertSame(Symmetry.R90, Symmetry.R0.then(Symmetry.T90));
+        assertSame(Symmetry.R180, Symmetry.R0.then(Symmetry.T180));
+        assertSame(Symmetry.R270, Symmetry.R0.then(Symmetry.T270));
+        assertSame(Symmetry.T180, Symmetry.T90.then(Symmetry.T90));
+    }
+
+    @Test
+    public void
+    metaKeysMapToTheirSymmetries() {
+        for(Solution.MetaKey key : Solution.MetaKey.values()) {
+            assertSame(key, Symmetry.of(key).getMetaKey());
+        }
+    }
+
+    @Test
+    public void
+    packedImagesMatchTheRowImages() {
+        Solution solution = new Solution(ROWS, 8);
+        Set<Long> images = new HashSet<Long>();
+        for(Symmetry symmetry : Symmetry.values()) {
+            long packed = symmetry.apply(solution.pack(), 8);
+
+            assertEquals(solution.transform(symmetry), Solution.unpack(packed, 8));
+            images.add(packed);
+        }
+        assertEquals(8, images.size());
+    }
+
+    @Test(expected = SolutionException.class)
+    public void
+    cannotApplyIntoTheRowsThemselves() {
+        byte[] rows = ROWS.clone();
+        Symmetry.T90.apply(rows, rows);
+    }
+}
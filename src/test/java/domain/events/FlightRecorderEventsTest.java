@@ -0,0 +1,73 @@
+package domain.events;
+
+import domain.manager.SolutionManager;
+import domain.solver.BitmaskSolver;
+import general.AbstractMockTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class FlightRecorderEventsTest extends AbstractMockTest {
+
+    @Test
+    public void
+    recordsSolverRunsAndSymmetryAnalyses() throws IOException {
+        Recording recording = new Recording();
+        recording.enable(SolverRunEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(SymmetryAnalysisEvent.class).withThreshold(Duration.ZERO);
+        recording.start();
+        SolutionManager.uniqueOf(new BitmaskSolver(8).solutions());
+        recording.stop();
+
+        Path file = Files.createTempFile("queens", ".jfr");
+        try {
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertEquals(2, events.size());
+            RecordedEvent run = events.get(0);
+            assertEquals("queens.SolverRun", run.getEventType().getName());
+            assertEquals(8, run.getInt("size"));
+            assertEquals("bitmask", run.getString("mode"));
+            assertEquals(92, run.getLong("count"));
+
+            RecordedEvent analysis = events.get(1);
+            assertEquals("queens.SymmetryAnalysis", analysis.getEventType().getName());
+            assertEquals("unique", analysis.getString("analysis"));
+            assertEquals(12, analysis.getInt("result"));
+            assertTrue(analysis.getDuration().toNanos() >= 0);
+        } finally {
+            recording.close();
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void
+    skipsRunsFasterThanTheThreshold() throws IOException {
+        Recording recording = new Recording();
+        recording.enable(SolverRunEvent.class);
+        recording.start();
+        new BitmaskSolver(4).count();
+        recording.stop();
+
+        Path file = Files.createTempFile("queens", ".jfr");
+        try {
+            recording.dump(file);
+            assertTrue(RecordingFile.readAllEvents(file).isEmpty());
+        } finally {
+            recording.close();
+            Files.delete(file);
+        }
+    }
+}
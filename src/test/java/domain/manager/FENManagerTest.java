@@ -1,8 +1,14 @@
 package domain.manager;
 
+import domain.solver.BitmaskSolver;
+import domain.store.SolutionStore;
 import general.AbstractMockTest;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static junit.framework.Assert.assertEquals;
 
 public class FENManagerTest extends AbstractMockTest {
@@ -18,4 +24,56 @@ public class FENManagerTest extends AbstractMockTest {
     uniqueShouldReturn12FENStrings() {
        assertEquals(12, FENManager.unique().size());
     }
+
+    @Test
+    public void
+    distinctShouldReturn10FENStringsOfBoardSize5() {
+       assertEquals(10, FENManager.distinct(5).size());
+    }
+
+    @Test
+    public void
+    uniqueShouldReturn2FENStringsOfBoardSize5() {
+       assertEquals(2, FENManager.unique(5).size());
+    }
+
+    @Test
+    public void
+    streamShouldProvideFENStringsLazily() {
+       assertEquals("Q7/6Q1/4Q3/7Q/1Q6/3Q4/5Q2/2Q5", FENManager.stream(8).findFirst().get());
+    }
+
+    @Test
+    public void
+    storedShouldReadOneFENStringOnDemand() throws IOException {
+        Path path = Files.createTempFile("solutions", ".8qps");
+        try {
+            SolutionStore.write(path, 8, SolutionStore.FLAG_DISTINCT, new BitmaskSolver(8).solutions());
+            SolutionStore store = SolutionStore.open(path);
+            try {
+                assertEquals(FENManager.distinct().get(91), FENManager.stored(store, 91));
+            } finally {
+                store.close();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void
+    storedShouldReturnTheSameFENStringsAsDistinct() throws IOException {
+        Path path = Files.createTempFile("solutions", ".8qps");
+        try {
+            SolutionStore.write(path, 8, SolutionStore.FLAG_DISTINCT, new BitmaskSolver(8).solutions());
+            SolutionStore store = SolutionStore.open(path);
+            try {
+                assertEquals(FENManager.distinct(), FENManager.stored(store));
+            } finally {
+                store.close();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
 }
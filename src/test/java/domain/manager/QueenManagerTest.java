@@ -39,4 +39,25 @@ public class QueenManagerTest extends AbstractMockTest {
                 new Queen(1, 6, new Queen(7, 5, new Queen(5, 4, new Queen(0, 3, new Queen(2, 2, new Queen(4, 1,
                         new Queen(6, 0, PhantomQueen.INSTANCE))))))))));
     }
+
+    @Test
+    public void
+    canGenerateAllPossiblePermutationsOfBoardSize() {
+        assertEquals(5 * 4 * 3 * 2 * 1, QueenManager.generateAllPermutations(5).size());
+    }
+
+    @Test
+    public void
+    placementsAreOfBoardSize() {
+        for(Queen placement : QueenManager.generateAllPlacements(6)) {
+            assertEquals(6, placement.getSize());
+        }
+    }
+
+    @Test
+    public void
+    generatesNonAttackingPlacementsOnly() {
+        assertEquals(92, QueenManager.generateAllPlacements().size());
+        assertEquals(724, QueenManager.placements(10).count());
+    }
 }
@@ -0,0 +1,73 @@
+package domain.manager;
+
+import domain.Solution;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class SolutionCatalogTest extends AbstractMockTest {
+
+    @Test
+    public void
+    computesSolutionsOfABoardSizeOnce() {
+        SolutionCatalog catalog = new SolutionCatalog(SolutionCatalog.DEFAULT_MAX_SOLUTIONS);
+
+        List<Solution> distinct = catalog.get(8).getDistinct();
+
+        assertEquals(92, distinct.size());
+        assertSame(distinct, catalog.get(8).getDistinct());
+        assertSame(catalog.get(8).getDistinctFEN(), catalog.get(8).getDistinctFEN());
+    }
+
+    @Test
+    public void
+    servesTheSameAsManagers() {
+        SolutionCatalog.Entry entry = new SolutionCatalog(SolutionCatalog.DEFAULT_MAX_SOLUTIONS).get(8);
+
+        assertEquals(SolutionManager.distinct(QueenManager.generateAllPlacements()), entry.getDistinct());
+        assertEquals(SolutionManager.unique(QueenManager.generateAllPlacements()), entry.getUnique());
+        assertEquals(12, entry.getUniqueFEN().size());
+        assertEquals(MetadataManager.all(SolutionManager.distinct(QueenManager.generateAllPlacements())),
+                entry.getMetadata());
+    }
+
+    @Test
+    public void
+    metadataIsRecordedOnce() {
+        SolutionCatalog.Entry entry = new SolutionCatalog(SolutionCatalog.DEFAULT_MAX_SOLUTIONS).get(6);
+
+        entry.getMetadata();
+        entry.getUnique();
+
+        for(Solution solution : entry.getDistinct()) {
+            assertEquals(1, solution.getMetadata(Solution.MetaKey.R0).size());
+        }
+    }
+
+    @Test
+    public void
+    evictsLeastRecentlyUsedBoardSizesPastTheBound() {
+        SolutionCatalog catalog = new SolutionCatalog(100);
+
+        catalog.get(8).getDistinct();
+        catalog.get(7).getDistinct();
+        assertFalse(catalog.contains(8));
+        assertTrue(catalog.contains(7));
+
+        catalog.get(9).getDistinct();
+        assertTrue(catalog.contains(9));
+        assertFalse(catalog.contains(7));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void
+    sharedSolutionsCannotBeModified() {
+        new SolutionCatalog(SolutionCatalog.DEFAULT_MAX_SOLUTIONS).get(4).getDistinct().clear();
+    }
+}
@@ -3,6 +3,9 @@ package domain.manager;
 import domain.Solution;
 import domain.queen.PhantomQueen;
 import domain.queen.Queen;
+import domain.solver.BitmaskSolver;
+import domain.solver.SolverResult;
+import domain.solver.SolverRun;
 import general.AbstractMockTest;
 import org.junit.Test;
 
@@ -10,6 +13,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
 
 public class SolutionManagerTest extends AbstractMockTest {
@@ -356,4 +360,151 @@ public class SolutionManagerTest extends AbstractMockTest {
     uniqueShouldReturn12Solutions() {
         assertEquals(12, SolutionManager.unique(QueenManager.generateAllPlacements()).size());
     }
+
+    @Test
+    public void
+    shouldReturn4SolutionsOfBoardSize6() {
+        assertEquals(4, SolutionManager.all(QueenManager.generateAllPlacements(6)).size());
+    }
+
+    @Test
+    public void
+    distinctShouldMarkSymmetriesOfBoardSize6() {
+        List<Solution> solutions = SolutionManager.distinct(QueenManager.generateAllPlacements(6));
+
+        for(Solution solution : solutions) {
+            assertEquals(1, solution.getMetadata(Solution.MetaKey.T90).size());
+            assertEquals(1, solution.getMetadata(Solution.MetaKey.T180).size());
+            assertEquals(1, solution.getMetadata(Solution.MetaKey.R0).size());
+        }
+    }
+
+    @Test
+    public void
+    uniqueShouldReturn1SolutionOfBoardSize6() {
+        assertEquals(1, SolutionManager.unique(QueenManager.generateAllPlacements(6)).size());
+    }
+
+    @Test
+    public void
+    streamShouldProvide92SolutionsLazily() {
+        assertEquals(92, SolutionManager.stream(8).count());
+        assertEquals(5, SolutionManager.stream(20).limit(5).count());
+    }
+
+    @Test
+    public void
+    parallelStreamShouldProvide724SolutionsOfBoardSize10() {
+        assertEquals(724, SolutionManager.parallelStream(10).count());
+    }
+
+    @Test
+    public void
+    uniqueOfKeepsTheFirstSolutionOfEachOrbit() {
+        List<Solution> all = new BitmaskSolver(10).solutions();
+
+        List<Solution> unique = SolutionManager.uniqueOf(all);
+
+        assertEquals(92, unique.size());
+        assertEquals(all.get(0), unique.get(0));
+    }
+
+    @Test
+    public void
+    parallelUniqueOfIsTheSameAsSequential() {
+        List<Solution> all = new BitmaskSolver(9).solutions();
+
+        assertEquals(SolutionManager.uniqueOf(all), SolutionManager.parallelUniqueOf(all));
+        assertEquals(1787, SolutionManager.uniqueOf(new BitmaskSolver(12).solutions()).size());
+    }
+
+    @Test
+    public void
+    distinctOfMarksTheSameSymmetriesAsPairwiseComparison() {
+        List<Solution> solutions = SolutionManager.distinctOf(new BitmaskSolver(8).solutions());
+
+        for(Solution solution : solutions) {
+            for(int i = 0; i < solutions.size(); i++) {
+                Solution other = solutions.get(i);
+                assertEquals(solution.rotateBy90().equals(other),
+                        solution.getMetadata(Solution.MetaKey.T90).contains(i));
+                assertEquals(solution.rotateBy180().equals(other),
+                        solution.getMetadata(Solution.MetaKey.T180).contains(i));
+                assertEquals(solution.rotateBy270().equals(other),
+                        solution.getMetadata(Solution.MetaKey.T270).contains(i));
+                assertEquals(solution.reflect().equals(other),
+                        solution.getMetadata(Solution.MetaKey.R0).contains(i));
+                assertEquals(solution.reflect().rotateBy90().equals(other),
+                        solution.getMetadata(Solution.MetaKey.R90).contains(i));
+                assertEquals(solution.reflect().rotateBy180().equals(other),
+                        solution.getMetadata(Solution.MetaKey.R180).contains(i));
+                assertEquals(solution.reflect().rotateBy270().equals(other),
+                        solution.getMetadata(Solution.MetaKey.R270).contains(i));
+            }
+        }
+    }
+
+    @Test
+    public void
+    distinctOfMarksEverySolutionOfBoardSize12() {
+        List<Solution> solutions = SolutionManager.distinctOf(new BitmaskSolver(12).solutions());
+
+        assertEquals(14200, solutions.size());
+        for(Solution solution : solutions) {
+            assertEquals(1, solution.getMetadata(Solution.MetaKey.R0).size());
+        }
+    }
+
+    @Test
+    public void
+    distinctOfMarksTheSymmetriesOfBoardsPastAByte() {
+        int size = 204;
+        List<Integer> rows = new LinkedList<Integer>();
+        for(int column = 0; column < size; column++) {
+            rows.add(column < size / 2 ? 2 * column + 1 : 2 * (column - size / 2));
+        }
+        Solution solution = new Solution(rows, size);
+        List<Solution> all = new LinkedList<Solution>();
+        all.add(solution);
+        all.add(solution.rotateBy90());
+        all.add(solution.reflect());
+
+        List<Solution> solutions = SolutionManager.distinctOf(all);
+
+        assertEquals(1, solutions.get(0).getMetadata(Solution.MetaKey.T90).size());
+        assertTrue(solutions.get(0).getMetadata(Solution.MetaKey.T90).contains(1));
+        assertTrue(solutions.get(0).getMetadata(Solution.MetaKey.R0).contains(2));
+        assertTrue(solutions.get(1).getMetadata(Solution.MetaKey.T270).contains(0));
+        assertTrue(solutions.get(2).getMetadata(Solution.MetaKey.R0).contains(0));
+    }
+
+    @Test
+    public void
+    distinctOfFindsARepeatedSolutionAtItsLastPosition() {
+        List<Solution> all = new BitmaskSolver(6).solutions();
+        all.add(all.get(0));
+
+        List<Solution> solutions = SolutionManager.distinctOf(all);
+
+        boolean found = false;
+        for(Solution solution : solutions) {
+            for(Solution.MetaKey key : Solution.MetaKey.values()) {
+                assertFalse(solution.getMetadata(key).contains(0));
+                found |= solution.getMetadata(key).contains(4);
+            }
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    public void
+    resumedRunFindsTheSolutionsAfterTheContinuation() {
+        SolverRun run = SolutionManager.run(9);
+        run.cancel();
+        SolverResult first = run.run();
+        SolverResult rest = SolutionManager.resume(9, first.getContinuation()).run();
+
+        assertTrue(rest.isComplete());
+        assertEquals(352, first.getCount() + rest.getCount());
+    }
 }
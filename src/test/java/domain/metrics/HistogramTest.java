@@ -0,0 +1,54 @@
+package domain.metrics;
+
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class HistogramTest extends AbstractMockTest {
+
+    @Test
+    public void
+    bucketsSmallValuesExactly() {
+        for(long value = 0; value < 8; value++) {
+            assertEquals(value, Histogram.upperBound(Histogram.index(value)));
+        }
+    }
+
+    @Test
+    public void
+    bucketBoundsContainTheirValuesWithin12AndAHalfPercent() {
+        for(long value = 8; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 / 2 + 1) {
+            long upper = Histogram.upperBound(Histogram.index(value));
+            assertTrue(upper >= value);
+            assertTrue(upper - value <= value / 8);
+            assertEquals(Histogram.index(value), Histogram.index(upper));
+        }
+    }
+
+    @Test
+    public void
+    reportsPercentilesAndTheExactMaximum() {
+        Histogram histogram = new Histogram();
+        for(int value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000, histogram.getMax());
+        long median = histogram.percentile(0.5);
+        assertTrue(median >= 500000 && median <= 500000 * 9 / 8);
+        long p99 = histogram.percentile(0.99);
+        assertTrue(p99 >= 990000 && p99 <= 1000000);
+    }
+
+    @Test
+    public void
+    isEmptyUntilRecorded() {
+        Histogram histogram = new Histogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(0.99));
+    }
+}
@@ -0,0 +1,109 @@
+package domain.metrics;
+
+import domain.manager.FENManager;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledFuture;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class MetricsRegistryTest extends AbstractMockTest {
+
+    @Test
+    public void
+    keepsMetricsPerBoardSize() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("calls", 8).increment();
+        registry.counter("calls", 8).add(2);
+        registry.counter("calls", 10).increment();
+
+        assertEquals(3, registry.counter("calls", 8).get());
+        assertEquals(1, registry.counter("calls", 10).get());
+        assertSame(registry.histogram("latency", 8), registry.histogram("latency", 8));
+    }
+
+    @Test
+    public void
+    keepsBoardsPastSixtyFourApart() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("calls", 0).increment();
+        registry.counter("calls", 100).add(2);
+        registry.counter("calls", 1000).add(3);
+
+        assertEquals(1, registry.counter("calls", 0).get());
+        assertEquals(2, registry.counter("calls", 100).get());
+        assertEquals(3, registry.counter("calls", 1000).get());
+        assertSame(registry.histogram("latency", 200), registry.histogram("latency", 200));
+
+        String[] lines = registry.snapshot().split("\n");
+        assertEquals("counter   calls 1", lines[1]);
+        assertEquals("counter   calls N=100 2", lines[2]);
+        assertEquals("counter   calls N=1000 3", lines[3]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void
+    cannotKeepMetricsOfANegativeSize() {
+        new MetricsRegistry().counter("calls", -1);
+    }
+
+    @Test
+    public void
+    printsASortedSnapshot() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("latency", 8).record(1500);
+        registry.counter("calls", 8).increment();
+        registry.gauge("entries", new Gauge() {
+            @Override
+            public long value() {
+                return 3;
+            }
+        });
+
+        String[] lines = registry.snapshot().split("\n");
+
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("# metrics"));
+        assertEquals("counter   calls N=8 1", lines[1]);
+        assertEquals("gauge     entries 3", lines[2]);
+        assertTrue(lines[3].startsWith("histogram latency N=8 count=1 p50="));
+        assertTrue(lines[3].endsWith("max=1.5us"));
+    }
+
+    @Test
+    public void
+    timesTheManagers() {
+        long before = MetricsRegistry.INSTANCE.histogram("FENManager.distinct", 6).getCount();
+        FENManager.distinct(6);
+
+        assertEquals(before + 1, MetricsRegistry.INSTANCE.histogram("FENManager.distinct", 6).getCount());
+        assertTrue(MetricsRegistry.INSTANCE.snapshot().contains("FENManager.distinct N=6"));
+    }
+
+    @Test
+    public void
+    exportsPeriodicallyToAFile() throws IOException, InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("calls", 0).increment();
+        Path file = Files.createTempFile("metrics", ".txt");
+        Files.delete(file);
+
+        ScheduledFuture<?> export = registry.exportEvery(10, file);
+        try {
+            for(int i = 0; i < 500 && !Files.exists(file); i++) {
+                Thread.sleep(10);
+            }
+            String snapshot = new String(Files.readAllBytes(file), "UTF-8");
+            assertTrue(snapshot.contains("counter   calls 1"));
+        } finally {
+            export.cancel(false);
+            Files.deleteIfExists(file);
+        }
+    }
+}
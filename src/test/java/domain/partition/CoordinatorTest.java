@@ -0,0 +1,195 @@
+package domain.partition;
+
+import domain.Solution;
+import domain.exceptions.PartitionException;
+import domain.solver.BitmaskSolver;
+import domain.store.SolutionStore;
+import general.AbstractMockTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class CoordinatorTest extends AbstractMockTest {
+
+    private Path directory;
+    private Path store;
+
+    @Before
+    public void
+    createDirectory() throws IOException {
+        directory = Files.createTempDirectory("partition");
+        store = Files.createTempFile("partition", ".8qps");
+    }
+
+    @After
+    public void
+    deleteDirectory() throws IOException {
+        for(Path path : Files.newDirectoryStream(directory)) {
+            Files.delete(path);
+        }
+        Files.delete(directory);
+        Files.delete(store);
+    }
+
+    @Test
+    public void
+    plansAtLeastTheRequestedUnitsInPrefixOrder() {
+        List<WorkUnit> units = new Coordinator(directory).plan(10, 30, false);
+
+        assertTrue(units.size() >= 30);
+        long count = 0;
+        BitmaskSolver solver = new BitmaskSolver(10);
+        for(int i = 0; i < units.size(); i++) {
+            assertEquals(i, units.get(i).getId());
+            count += solver.count(units.get(i).getPrefix());
+        }
+        assertEquals(724, count);
+    }
+
+    @Test
+    public void
+    splitsTheMostExpensivePrefixesDeeper() {
+        List<WorkUnit> units = Coordinator.split(12, 40, new CostEstimator(12));
+
+        int shallowest = Integer.MAX_VALUE;
+        int deepest = 0;
+        for(WorkUnit unit : units) {
+            shallowest = Math.min(shallowest, unit.getPrefix().length);
+            deepest = Math.max(deepest, unit.getPrefix().length);
+        }
+        assertTrue(deepest > shallowest);
+    }
+
+    @Test
+    public void
+    mergesCountsOfConcurrentWorkers() throws InterruptedException {
+        Coordinator coordinator = new Coordinator(directory);
+        coordinator.plan(10, 25, false);
+
+        runWorkers(3);
+
+        assertTrue(coordinator.isComplete());
+        assertEquals(724, coordinator.merge());
+    }
+
+    @Test
+    public void
+    mergesStoresInSerialOrder() throws InterruptedException {
+        Coordinator coordinator = new Coordinator(directory);
+        coordinator.plan(8, 10, true);
+
+        runWorkers(2);
+
+        assertEquals(92, coordinator.merge(store));
+        SolutionStore merged = SolutionStore.open(store);
+        try {
+            List<Solution> solutions = new ArrayList<Solution>();
+            for(Solution solution : merged) {
+                solutions.add(solution);
+            }
+            assertEquals(new BitmaskSolver(8).solutions(), solutions);
+        } finally {
+            merged.close();
+        }
+    }
+
+    @Test
+    public void
+    requeuesStaleClaims() throws IOException {
+        Coordinator coordinator = new Coordinator(directory);
+        int units = coordinator.plan(8, 5, false).size();
+        Path todo = directory.resolve(WorkUnit.name(0) + PartitionFiles.TODO);
+        Files.move(todo, directory.resolve(WorkUnit.name(0) + PartitionFiles.CLAIMED + "lost"));
+
+        assertEquals(units - 1, new Worker(directory, "w").run());
+        assertFalse(coordinator.isComplete());
+        assertEquals(1, coordinator.requeue(0));
+        assertEquals(1, new Worker(directory, "w").run());
+        assertEquals(92, coordinator.merge());
+    }
+
+    @Test
+    public void
+    keepsUnitsClaimedAfterThePlanAged() throws IOException {
+        Coordinator coordinator = new Coordinator(directory);
+        coordinator.plan(8, 5, false);
+        FileTime aged = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+        for(Path todo : PartitionFiles.list(directory, "*" + PartitionFiles.TODO)) {
+            Files.setLastModifiedTime(todo, aged);
+        }
+
+        Path claimed = new Worker(directory, "w").claim();
+
+        assertNotNull(claimed);
+        assertEquals(0, coordinator.requeue(1000));
+        assertTrue(Files.exists(claimed));
+    }
+
+    @Test
+    public void
+    dropsRequeuedUnitsThatWereFinished() throws IOException {
+        Coordinator coordinator = new Coordinator(directory);
+        coordinator.plan(8, 5, false);
+        Path todo = directory.resolve(WorkUnit.name(0) + PartitionFiles.TODO);
+        byte[] unit = Files.readAllBytes(todo);
+        new Worker(directory, "first").run();
+        Files.write(todo, unit);
+
+        assertEquals(0, new Worker(directory, "second").run());
+        assertFalse(Files.exists(todo));
+        assertEquals(92, coordinator.merge());
+    }
+
+    @Test
+    public void
+    refusesToMergeAnIncompletePlan() {
+        Coordinator coordinator = new Coordinator(directory);
+        coordinator.plan(8, 5, false);
+        new Worker(directory, "w").runOne();
+        try {
+            coordinator.merge();
+            fail();
+        } catch(PartitionException e) {
+            assertEquals(1, coordinator.getCompleted());
+        }
+    }
+
+    @Test(expected = PartitionException.class)
+    public void
+    refusesToPlanTwice() {
+        new Coordinator(directory).plan(8, 5, false);
+        new Coordinator(directory).plan(8, 5, false);
+    }
+
+    private void runWorkers(int workers) throws InterruptedException {
+        List<Thread> threads = new ArrayList<Thread>();
+        for(int i = 0; i < workers; i++) {
+            final Worker worker = new Worker(directory, "w" + i);
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    worker.run();
+                }
+            }));
+        }
+        for(Thread thread : threads) {
+            thread.start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package domain.partition;
+
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class CostEstimatorTest extends AbstractMockTest {
+
+    @Test
+    public void
+    estimatesNothingBelowAnAttackingPrefix() {
+        assertEquals(0.0, new CostEstimator(8).estimate(new int[]{0, 1}));
+    }
+
+    @Test
+    public void
+    estimatesMoreForShorterPrefixes() {
+        CostEstimator estimator = new CostEstimator(10);
+        assertTrue(estimator.estimate(new int[]{4}) > estimator.estimate(new int[]{4, 0}));
+        assertTrue(estimator.estimate(new int[0]) > estimator.estimate(new int[]{4}));
+    }
+
+    @Test
+    public void
+    estimatesTheSameEveryTime() {
+        assertEquals(new CostEstimator(12).estimate(new int[]{3}), new CostEstimator(12).estimate(new int[]{3}));
+    }
+}
@@ -3,6 +3,7 @@ package domain.queen;
 import general.AbstractMockTest;
 import org.junit.Test;
 
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -14,6 +15,12 @@ public class PhantomQueenTest extends AbstractMockTest {
         assertNotNull(PhantomQueen.INSTANCE.solution());
     }
 
+    @Test
+    public void
+    shouldFindAnEmptySolution() {
+        assertEquals(0, PhantomQueen.INSTANCE.findSolution().get().getSize());
+    }
+
 
     @Test
     public void
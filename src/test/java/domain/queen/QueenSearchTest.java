@@ -0,0 +1,152 @@
+package domain.queen;
+
+import domain.PlacementBuffer;
+import domain.Solution;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class QueenSearchTest extends AbstractMockTest {
+
+    @Test
+    public void
+    flatSolveMovesTheQueensAsTheRecursionDoes() {
+        Random random = new Random(24);
+        for(int trial = 0; trial < 200; trial++) {
+            int size = 4 + random.nextInt(5);
+            int[] rows = randomRows(random, size);
+            Queen flat = chain(rows, false);
+            Queen recursive = chain(rows, true);
+
+            assertEquals(recursive.solve(), flat.solve());
+            assertSameRows(recursive, flat);
+        }
+    }
+
+    @Test
+    public void
+    flatAdvanceMovesTheQueensAsTheRecursionDoes() {
+        Random random = new Random(25);
+        for(int trial = 0; trial < 200; trial++) {
+            int size = 4 + random.nextInt(5);
+            int[] rows = randomRows(random, size);
+            Queen flat = chain(rows, false);
+            Queen recursive = chain(rows, true);
+
+            for(int step = 0; step < 5; step++) {
+                assertEquals(recursive.advance(), flat.advance());
+                assertSameRows(recursive, flat);
+            }
+        }
+    }
+
+    @Test
+    public void
+    advancingEnumeratesAllSolutionsOfEightQueens() {
+        Queen top = chain(new int[8], false);
+        int solutions = 0;
+        if(top.solve()) {
+            do {
+                solutions++;
+            } while(top.advance());
+        }
+        assertEquals(92, solutions);
+    }
+
+    @Test
+    public void
+    solvesChainsTooDeepForRecursion() {
+        int size = 12000;
+        int[] rows = new int[size];
+        for(int column = 0; column < size / 2; column++) {
+            rows[column] = 2 * column + 1;
+            rows[size / 2 + column] = 2 * column;
+        }
+        Queen top = chain(rows, false);
+
+        assertTrue(top.solve());
+        assertEquals(size - 2, top.getRow());
+    }
+
+    @Test
+    public void
+    readsTheSolutionOfABoardPastAByte() {
+        int size = 204;
+        int[] rows = new int[size];
+        for(int column = 0; column < size / 2; column++) {
+            rows[column] = 2 * column + 1;
+            rows[size / 2 + column] = 2 * column;
+        }
+
+        Solution solution = chain(rows, false).solution();
+
+        assertEquals(size, solution.getBoardSize());
+        for(int column = 0; column < size; column++) {
+            assertEquals(rows[column], solution.row(column));
+        }
+    }
+
+    @Test
+    public void
+    leavesTheSolvedPlacementInTheBuffer() {
+        QueenSearch search = new QueenSearch(8);
+        for(int column = 0; column < 8; column++) {
+            search.add(0, column);
+        }
+
+        assertTrue(search.solve(7));
+
+        PlacementBuffer placement = search.getPlacement();
+        assertTrue(placement.isComplete());
+        for(int column = 0; column < 8; column++) {
+            assertEquals(search.getRow(column), placement.row(column));
+        }
+        assertEquals(new Solution(new byte[]{0, 4, 7, 5, 2, 6, 1, 3}, 8), placement.snapshot());
+    }
+
+    @Test
+    public void
+    clonesKeepTheirRowsApartFromTheSearch() {
+        Queen top = chain(new int[8], false);
+        assertTrue(top.solve());
+        Queen copy = (Queen) top.clone();
+
+        assertTrue(top.advance());
+
+        assertEquals(3, copy.getRow());
+        assertEquals(top.getNeighbour(), copy.getNeighbour());
+    }
+
+    private static int[] randomRows(Random random, int size) {
+        int[] rows = new int[size];
+        for(int column = 0; column < size; column++) {
+            rows[column] = random.nextInt(size);
+        }
+        return rows;
+    }
+
+    private static Queen chain(int[] rows, boolean recursive) {
+        int size = rows.length;
+        IQueen queen = PhantomQueen.INSTANCE;
+        for(int column = 0; column < size; column++) {
+            queen = recursive
+                    ? new Queen(rows[column], column, queen, size) {}
+                    : new Queen(rows[column], column, queen, size);
+        }
+        return (Queen) queen;
+    }
+
+    private static void assertSameRows(Queen expected, Queen actual) {
+        IQueen left = expected;
+        IQueen right = actual;
+        while(left instanceof Queen) {
+            assertEquals(((Queen) left).getRow(), ((Queen) right).getRow());
+            left = ((Queen) left).getNeighbour();
+            right = ((Queen) right).getNeighbour();
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.jmock.api.Invocation;
 import org.jmock.lib.action.CustomAction;
 import org.junit.Test;
 
+import java.util.Optional;
+
 import static junit.framework.Assert.*;
 
 public class QueenTest extends AbstractQueenTest {
@@ -294,10 +296,10 @@ public class QueenTest extends AbstractQueenTest {
     shouldAskForNeighboursSolutionBeforeReturningOfItself() {
         context.checking(new Expectations() {
             {
-               one(mockQueen).solution();
+               one(mockQueen).findSolution();
 
                 // Added to fix the test after having added the implementation for the following test
-                will(returnValue(new Solution()));
+                will(returnValue(Optional.of(new Solution())));
             }
         });
 
@@ -315,8 +317,8 @@ public class QueenTest extends AbstractQueenTest {
 
         checking(new Expectations() {
             {
-                one(mockQueen).solution();
-                will(returnValue(new Solution()));
+                one(mockQueen).findSolution();
+                will(returnValue(Optional.of(new Solution())));
             }
         });
 
@@ -353,13 +355,13 @@ public class QueenTest extends AbstractQueenTest {
 
         checking(new Expectations() {
             {
-                one(mockQueen).solution();
+                one(mockQueen).findSolution();
                 will(new CustomAction("") {
                     @Override
                     public Object invoke(Invocation invocation) throws Throwable {
                         // Here we set the flag to true, to assert the order of invocation
                         flag[0] = true;
-                        return new Solution();
+                        return Optional.of(new Solution());
                     }
                 });
             }
@@ -384,4 +386,77 @@ public class QueenTest extends AbstractQueenTest {
             }
         });
     }
+
+    @Test
+    public void
+    queenIsInitWithRowUpToBoardSize() {
+        assertEquals(9, new Queen(9, AT_SOME_COLUMN, NULL_NEIGHBOUR, 10).getRow());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void
+    queenIsNotInitWithRowEqualToBoardSize() {
+        new Queen(10, AT_SOME_COLUMN, NULL_NEIGHBOUR, 10);
+    }
+
+    @Test
+    public void
+    canAdvanceToTheLowestRowOfBoardSize() {
+        Queen queen = new Queen(8, AT_SOME_COLUMN, NULL_NEIGHBOUR, 10);
+
+        assertTrue(queen.advance());
+        assertEquals(9, queen.getRow());
+        assertFalse(queen.advance());
+    }
+
+    @Test
+    public void
+    solutionIsOfBoardSizeOfQueens() {
+        Solution solution = new Queen(2, 3, new Queen(0, 2, new Queen(3, 1, new Queen(1, 0, NULL_NEIGHBOUR, 4), 4), 4), 4)
+                .solution();
+
+        assertEquals(4, solution.getBoardSize());
+        assertEquals(4, solution.getSolutionList().size());
+    }
+
+    @Test
+    public void
+    findsNoSolutionWhenThereIsNone() {
+        assertFalse(new Queen(7, AT_SOME_COLUMN, NULL_NEIGHBOUR) {
+            @Override
+            public boolean solve() {
+                return false;
+            }
+        }.findSolution().isPresent());
+    }
+
+    @Test
+    public void
+    augmentsNeighboursFoundSolutionWithItsRow() {
+        checking(new Expectations() {
+            {
+                one(mockQueen).findSolution();
+                will(returnValue(Optional.of(new Solution())));
+            }
+        });
+
+        Optional<Solution> solution = new Queen(AT_SOME_ROW, AT_SOME_COLUMN, mockQueen) {
+            @Override
+            public boolean solve() {
+                return true;
+            }
+        }.findSolution();
+
+        assertEquals(1, solution.get().getSize());
+        assertEquals(AT_SOME_ROW, solution.get().row(0));
+    }
+
+    @Test
+    public void
+    findsTheSameSolutionAsSolution() {
+        Queen queen = new Queen(0, 3, new Queen(0, 2, new Queen(0, 1, new Queen(0, 0, NULL_NEIGHBOUR, 4), 4), 4), 4);
+        Queen same = new Queen(0, 3, new Queen(0, 2, new Queen(0, 1, new Queen(0, 0, NULL_NEIGHBOUR, 4), 4), 4), 4);
+
+        assertEquals(queen.solution(), same.findSolution().get());
+    }
 }
@@ -0,0 +1,60 @@
+package domain.solver;
+
+import domain.Solution;
+import domain.manager.QueenManager;
+import domain.manager.SolutionManager;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class BitmaskSolverTest extends AbstractMockTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void
+    isNotInitWithSizeLessThan1() {
+        new BitmaskSolver(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void
+    isNotInitWithSizeGreaterThan64() {
+        new BitmaskSolver(65);
+    }
+
+    @Test
+    public void
+    countsKnownNumbersOfSolutions() {
+        long[] expected = {1, 0, 0, 2, 10, 4, 40, 92, 352, 724, 2680, 14200};
+        for(int size = 1; size <= expected.length; size++) {
+            assertEquals(expected[size - 1], new BitmaskSolver(size).count());
+        }
+    }
+
+    @Test
+    public void
+    shouldReturn92Solutions() {
+        assertEquals(92, new BitmaskSolver(8).solutions().size());
+    }
+
+    @Test
+    public void
+    solutionsAreTheSameAsOfQueenChain() {
+        List<Solution> solutions = new BitmaskSolver(8).solutions();
+
+        assertEquals(new HashSet<Solution>(SolutionManager.all(QueenManager.generateAllPlacements())),
+                new HashSet<Solution>(solutions));
+    }
+
+    @Test
+    public void
+    solutionsAreOfBoardSize() {
+        List<Solution> solutions = new BitmaskSolver(10).solutions();
+
+        assertEquals(724, solutions.size());
+        assertEquals(10, solutions.get(0).getSolutionList().size());
+    }
+}
@@ -0,0 +1,140 @@
+package domain.solver;
+
+import domain.exceptions.CheckpointException;
+import general.AbstractMockTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class CheckpointedEnumerationTest extends AbstractMockTest {
+
+    private Path directory;
+
+    @Before
+    public void
+    createDirectory() throws IOException {
+        directory = Files.createTempDirectory("checkpoint");
+    }
+
+    @After
+    public void
+    deleteDirectory() throws IOException {
+        for(Path path : Files.newDirectoryStream(directory)) {
+            Files.delete(path);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void
+    countsTheSameAsSerialSearch() {
+        assertEquals(2680, new CheckpointedEnumeration(11, 2, directory.resolve("count.checkpoint")).run());
+    }
+
+    @Test
+    public void
+    resumesCountingFromTheLastCheckpoint() {
+        Path checkpoint = directory.resolve("count.checkpoint");
+        interrupted(10, checkpoint, null, 20);
+
+        final int[] resumedFrom = {-1};
+        long count = new CheckpointedEnumeration(10, 2, checkpoint) {
+            @Override
+            void onPrefixCompleted(int index) {
+                if(resumedFrom[0] < 0) {
+                    resumedFrom[0] = index;
+                }
+            }
+        }.run();
+
+        assertEquals(724, count);
+        assertEquals(20, resumedFrom[0]);
+    }
+
+    @Test
+    public void
+    resumedStoreIsByteIdentical() throws IOException {
+        Path whole = directory.resolve("whole.8qps");
+        new CheckpointedEnumeration(9, 2, directory.resolve("whole.checkpoint"), whole).run();
+
+        Path resumed = directory.resolve("resumed.8qps");
+        Path checkpoint = directory.resolve("resumed.checkpoint");
+        interrupted(9, checkpoint, resumed, 11);
+        assertEquals(352, new CheckpointedEnumeration(9, 2, checkpoint, resumed).run());
+
+        assertTrue(Arrays.equals(Files.readAllBytes(whole), Files.readAllBytes(resumed)));
+    }
+
+    @Test
+    public void
+    runStoppedAfterMergingIsNotMergedAgain() throws IOException {
+        Path whole = directory.resolve("whole.8qps");
+        new CheckpointedEnumeration(8, 2, directory.resolve("whole.checkpoint"), whole).run();
+
+        Path merged = directory.resolve("merged.8qps");
+        Path checkpoint = directory.resolve("merged.checkpoint");
+        try {
+            new CheckpointedEnumeration(8, 2, checkpoint, merged) {
+                @Override
+                void onMerged() {
+                    throw new IllegalStateException();
+                }
+            }.run();
+            fail();
+        } catch(IllegalStateException expected) {
+        }
+        Files.delete(directory.resolve("merged.8qps.part-0"));
+
+        assertEquals(92, new CheckpointedEnumeration(8, 2, checkpoint, merged).run());
+        assertTrue(Arrays.equals(Files.readAllBytes(whole), Files.readAllBytes(merged)));
+        assertFalse(Files.exists(directory.resolve("merged.8qps.part-1")));
+    }
+
+    @Test
+    public void
+    finishedRunIsNotRepeated() {
+        Path checkpoint = directory.resolve("count.checkpoint");
+        new CheckpointedEnumeration(8, 1, checkpoint).run();
+
+        assertEquals(92, new CheckpointedEnumeration(8, 1, checkpoint) {
+            @Override
+            void onPrefixCompleted(int index) {
+                fail();
+            }
+        }.run());
+    }
+
+    @Test(expected = CheckpointException.class)
+    public void
+    cannotResumeCheckpointOfAnotherBoardSize() {
+        Path checkpoint = directory.resolve("count.checkpoint");
+        new CheckpointedEnumeration(6, 1, checkpoint).run();
+
+        new CheckpointedEnumeration(7, 1, checkpoint).run();
+    }
+
+    private void interrupted(int size, Path checkpoint, Path store, final int at) {
+        try {
+            new CheckpointedEnumeration(size, 2, checkpoint, store) {
+                @Override
+                void onPrefixCompleted(int index) {
+                    if(index == at) {
+                        throw new IllegalStateException();
+                    }
+                }
+            }.setInterval(0).run();
+            fail();
+        } catch(IllegalStateException expected) {
+        }
+    }
+}
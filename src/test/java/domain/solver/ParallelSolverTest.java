@@ -0,0 +1,41 @@
+package domain.solver;
+
+import domain.Solution;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static junit.framework.Assert.assertEquals;
+
+public class ParallelSolverTest extends AbstractMockTest {
+
+    @Test
+    public void
+    countsTheSameAsSerialSearch() {
+        for(int size = 1; size <= 11; size++) {
+            assertEquals(new BitmaskSolver(size).count(), new ParallelSolver(size).count());
+        }
+    }
+
+    @Test
+    public void
+    countsTheSameWhenSplitOnFirstPlacementOnly() {
+        assertEquals(2680, new ParallelSolver(11, ForkJoinPool.commonPool(), 1).count());
+    }
+
+    @Test
+    public void
+    solutionsAreInTheOrderOfSerialSearch() {
+        List<Solution> solutions = new ParallelSolver(9).solutions();
+
+        assertEquals(new BitmaskSolver(9).solutions(), solutions);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void
+    isNotInitWithNegativeSplitDepth() {
+        new ParallelSolver(8, ForkJoinPool.commonPool(), -1);
+    }
+}
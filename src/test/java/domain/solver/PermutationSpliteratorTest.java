@@ -0,0 +1,52 @@
+package domain.solver;
+
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class PermutationSpliteratorTest extends AbstractMockTest {
+
+    @Test
+    public void
+    providesAllPermutationsInLexicographicOrder() {
+        final List<int[]> permutations = new LinkedList<int[]>();
+        new PermutationSpliterator(4, false).forEachRemaining(new Consumer<int[]>() {
+            @Override
+            public void accept(int[] permutation) {
+                permutations.add(permutation.clone());
+            }
+        });
+
+        assertEquals(24, permutations.size());
+        assertTrue(Arrays.equals(new int[]{0, 1, 2, 3}, permutations.get(0)));
+        assertTrue(Arrays.equals(new int[]{0, 1, 3, 2}, permutations.get(1)));
+        assertTrue(Arrays.equals(new int[]{3, 2, 1, 0}, permutations.get(23)));
+    }
+
+    @Test
+    public void
+    estimatesTheNumberOfPermutations() {
+        assertEquals(40320, new PermutationSpliterator(8, false).estimateSize());
+    }
+
+    @Test
+    public void
+    pruningLeavesNonAttackingPlacementsOnly() {
+        assertEquals(92, StreamSupport.stream(new PermutationSpliterator(8, true), false).count());
+    }
+
+    @Test
+    public void
+    splitsForParallelConsumption() {
+        assertEquals(362880, StreamSupport.stream(new PermutationSpliterator(9, false), true).count());
+        assertEquals(724, StreamSupport.stream(new PermutationSpliterator(10, true), true).count());
+    }
+}
@@ -0,0 +1,51 @@
+package domain.solver;
+
+import domain.Solution;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class SolutionIteratorTest extends AbstractMockTest {
+
+    @Test
+    public void
+    iteratesSolutionsInTheOrderOfSerialSearch() {
+        List<Solution> solutions = new LinkedList<Solution>();
+        SolutionIterator iterator = new SolutionIterator(8);
+        while(iterator.hasNext()) {
+            solutions.add(iterator.next());
+        }
+
+        assertEquals(new BitmaskSolver(8).solutions(), solutions);
+    }
+
+    @Test
+    public void
+    hasNoSolutionsOfBoardSize3() {
+        assertFalse(new SolutionIterator(3).hasNext());
+    }
+
+    @Test
+    public void
+    providesFirstSolutionOfALargeBoardWithoutEnumeratingAll() {
+        SolutionIterator iterator = new SolutionIterator(30);
+
+        assertTrue(iterator.hasNext());
+        assertEquals(30, iterator.next().getSolutionList().size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void
+    throwsWhenExhausted() {
+        SolutionIterator iterator = new SolutionIterator(1);
+        iterator.next();
+        iterator.next();
+    }
+}
@@ -0,0 +1,43 @@
+package domain.solver;
+
+import domain.Solution;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+
+public class SolutionSpliteratorTest extends AbstractMockTest {
+
+    @Test
+    public void
+    parallelStreamCountsTheSameAsSerialSearch() {
+        assertEquals(new BitmaskSolver(10).count(),
+                StreamSupport.stream(new SolutionSpliterator(10), true).count());
+    }
+
+    @Test
+    public void
+    parallelStreamKeepsEncounterOrder() {
+        List<Solution> solutions = StreamSupport.stream(new SolutionSpliterator(9), true)
+                .collect(Collectors.<Solution>toList());
+
+        assertEquals(new BitmaskSolver(9).solutions(), solutions);
+    }
+
+    @Test
+    public void
+    splitsOffTheLowerHalfOfCandidates() {
+        Spliterator<Solution> spliterator = new SolutionSpliterator(8);
+        Spliterator<Solution> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(Integer.valueOf(0), StreamSupport.stream(prefix, false).findFirst().get().get(0));
+        assertEquals(Integer.valueOf(4), StreamSupport.stream(spliterator, false).findFirst().get().get(0));
+    }
+}
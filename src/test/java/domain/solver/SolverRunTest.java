@@ -0,0 +1,106 @@
+package domain.solver;
+
+import domain.Solution;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class SolverRunTest extends AbstractMockTest {
+
+    @Test
+    public void
+    findsAllSolutionsWhenUninterrupted() {
+        SolverRun run = new SolverRun(8);
+        SolverResult result = run.run();
+
+        assertTrue(result.isComplete());
+        assertNull(result.getContinuation());
+        assertEquals(92, result.getCount());
+        assertEquals(new BitmaskSolver(8).solutions(), result.getSolutions());
+        assertEquals(1.0, run.getProgress());
+        assertEquals(result.getNodes(), run.getNodes());
+        assertTrue(run.isDone());
+    }
+
+    @Test
+    public void
+    countsWithoutCollecting() {
+        SolverResult result = new SolverRun(10).setCollecting(false).run();
+
+        assertEquals(724, result.getCount());
+        assertTrue(result.getSolutions().isEmpty());
+    }
+
+    @Test
+    public void
+    stopsWhenCancelledAndResumesFromTheContinuation() {
+        SolverRun run = new SolverRun(10);
+        run.cancel();
+        SolverResult first = run.run();
+
+        assertFalse(first.isComplete());
+        assertEquals(SolverRun.CHECK_INTERVAL, first.getNodes());
+        assertTrue(run.getProgress() > 0 && run.getProgress() < 1);
+
+        List<Solution> solutions = new ArrayList<Solution>(first.getSolutions());
+        String continuation = first.getContinuation();
+        int runs = 1;
+        while(continuation != null) {
+            SolverRun next = new SolverRun(10, continuation);
+            next.cancel();
+            SolverResult result = next.run();
+            solutions.addAll(result.getSolutions());
+            continuation = result.getContinuation();
+            runs++;
+        }
+
+        assertTrue(runs > 2);
+        assertEquals(new BitmaskSolver(10).solutions(), solutions);
+    }
+
+    @Test
+    public void
+    returnsPartialResultsAtTheDeadline() {
+        SolverResult result = new SolverRun(16).setCollecting(false).setTimeout(50).start().await();
+
+        assertFalse(result.isComplete());
+        assertTrue(result.getContinuation().startsWith("16:"));
+        assertTrue(result.getCount() < 14772512);
+    }
+
+    @Test
+    public void
+    reportsProgressWhileRunning() throws InterruptedException {
+        SolverRun run = new SolverRun(16).setCollecting(false).start();
+        while(run.getNodes() == 0) {
+            Thread.sleep(1);
+        }
+        run.cancel();
+        SolverResult result = run.await();
+
+        assertFalse(result.isComplete());
+        assertTrue(run.getRate() > 0);
+        assertEquals(result.getCount(), run.getSolutions());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void
+    rejectsContinuationsOfAnotherBoard() {
+        new SolverRun(10, "8:0,4");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void
+    cannotBeStartedTwice() {
+        SolverRun run = new SolverRun(4);
+        run.run();
+        run.start();
+    }
+}
@@ -0,0 +1,132 @@
+package domain.solver;
+
+import domain.queen.IQueen;
+import domain.queen.PhantomQueen;
+import domain.queen.Queen;
+import general.AbstractMockTest;
+import org.junit.After;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class SolverStatisticsTest extends AbstractMockTest {
+
+    @After
+    public void
+    disableStatistics() {
+        SolverStatistics.disable();
+    }
+
+    @Test
+    public void
+    recordsNothingWhenDisabled() {
+        new BitmaskSolver(8).count();
+
+        assertNull(SolverStatistics.active());
+        assertNull(SolverStatistics.disable());
+    }
+
+    @Test
+    public void
+    recordsTheBitmaskSearchTreePerDepth() {
+        SolverStatistics.enable();
+        assertEquals(92, new BitmaskSolver(8).count());
+        StatisticsSnapshot snapshot = SolverStatistics.disable();
+
+        long[] nodes = {1, 8, 42, 140, 344, 568, 550, 312, 92};
+        assertEquals(9, snapshot.getDepths());
+        for(int depth = 0; depth < nodes.length; depth++) {
+            assertEquals(nodes[depth], snapshot.getNodes(depth));
+        }
+        assertEquals(2057, snapshot.getNodes());
+        assertEquals(92, snapshot.getSolutions(8));
+        assertEquals(92, snapshot.getSolutions());
+        assertEquals((snapshot.getNodes() - 92) * 8, snapshot.getProbes());
+        assertEquals(0, snapshot.getBacktracks(0));
+        assertTrue(snapshot.getBacktracks() > 0);
+    }
+
+    @Test
+    public void
+    recordsTheQueenSearch() {
+        SolverStatistics.enable();
+        Queen queen = chain(8);
+        int solutions = 0;
+        if(queen.solve()) {
+            do {
+                solutions++;
+            } while(queen.advance());
+        }
+        StatisticsSnapshot snapshot = SolverStatistics.disable();
+
+        assertEquals(92, solutions);
+        assertEquals(92, snapshot.getSolutions(8));
+        assertEquals(1, snapshot.getNodes(0));
+        assertEquals(92, snapshot.getNodes(8));
+        assertTrue(snapshot.getNodes(7) > 0);
+        assertTrue(snapshot.getBacktracks(7) > 0);
+    }
+
+    @Test
+    public void
+    queenSearchRecordsTheBitmaskTablesPerDepth() {
+        SolverStatistics.enable();
+        new BitmaskSolver(6).count();
+        StatisticsSnapshot bitmask = SolverStatistics.disable();
+
+        SolverStatistics.enable();
+        Queen queen = chain(6);
+        if(queen.solve()) {
+            while(queen.advance()) {
+            }
+        }
+        StatisticsSnapshot queens = SolverStatistics.disable();
+
+        assertEquals(bitmask.getDepths(), queens.getDepths());
+        for(int depth = 0; depth < bitmask.getDepths(); depth++) {
+            assertEquals(bitmask.getNodes(depth), queens.getNodes(depth));
+            assertEquals(bitmask.getProbes(depth), queens.getProbes(depth));
+            assertEquals(bitmask.getSolutions(depth), queens.getSolutions(depth));
+        }
+    }
+
+    @Test
+    public void
+    printsATableWithTotals() {
+        SolverStatistics.enable();
+        new BitmaskSolver(4).count();
+        String table = SolverStatistics.disable().toString();
+
+        assertTrue(table.startsWith("depth"));
+        assertTrue(table.contains("total"));
+        assertEquals(7, table.split(System.getProperty("line.separator")).length);
+    }
+
+    private static Queen chain(int size) {
+        IQueen queen = PhantomQueen.INSTANCE;
+        for(int column = 0; column < size; column++) {
+            queen = new Queen(0, column, queen, size);
+        }
+        return (Queen) queen;
+    }
+
+    @Test
+    public void
+    recordsQueensPastTheBitmaskBoardSizes() {
+        SolverStatistics.enable();
+
+        IQueen queen = PhantomQueen.INSTANCE;
+        for(int column = 0; column < 80; column++) {
+            queen = new Queen(column < 50 ? 2 * column + 1 : 2 * (column - 50), column, queen, 100);
+        }
+        assertFalse(queen.canAttack(60, 80));
+        SolverStatistics.active().node(SolverStatistics.MAX_DEPTH);
+
+        StatisticsSnapshot snapshot = SolverStatistics.disable();
+        assertEquals(1, snapshot.getProbes(80));
+        assertEquals(81, snapshot.getDepths());
+    }
+}
@@ -0,0 +1,45 @@
+package domain.solver;
+
+import domain.manager.QueenManager;
+import domain.manager.SolutionManager;
+import general.AbstractMockTest;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class SymmetryCounterTest extends AbstractMockTest {
+
+    @Test
+    public void
+    countsKnownNumbersOfDistinctSolutions() {
+        long[] expected = {1, 0, 0, 2, 10, 4, 40, 92, 352, 724, 2680, 14200, 73712};
+        for(int size = 1; size <= expected.length; size++) {
+            assertEquals(expected[size - 1], new SymmetryCounter(size).count().getDistinct());
+        }
+    }
+
+    @Test
+    public void
+    countsKnownNumbersOfUniqueSolutions() {
+        long[] expected = {1, 0, 0, 1, 2, 1, 6, 12, 46, 92, 341, 1787, 9233};
+        for(int size = 1; size <= expected.length; size++) {
+            assertEquals(expected[size - 1], new SymmetryCounter(size).count().getUnique());
+        }
+    }
+
+    @Test
+    public void
+    countsSymmetricSolutionsOfBoardSize8() {
+        SymmetryCount count = new SymmetryCounter(8).count();
+
+        assertEquals(0, count.getSymmetricBy90());
+        assertEquals(4, count.getSymmetricBy180());
+    }
+
+    @Test
+    public void
+    uniqueCountIsTheSameAsOfSolutionManager() {
+        assertEquals(SolutionManager.unique(QueenManager.generateAllPlacements(7)).size(),
+                new SymmetryCounter(7).count().getUnique());
+    }
+}
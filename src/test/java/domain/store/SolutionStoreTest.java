@@ -0,0 +1,164 @@
+package domain.store;
+
+import domain.Solution;
+import domain.exceptions.SolutionStoreException;
+import domain.solver.BitmaskSolver;
+import domain.solver.SolutionIterator;
+import general.AbstractMockTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class SolutionStoreTest extends AbstractMockTest {
+
+    private Path path;
+
+    @Before
+    public void
+    createFile() throws IOException {
+        path = Files.createTempFile("solutions", ".8qps");
+    }
+
+    @After
+    public void
+    deleteFile() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void
+    storesAllSolutionsInOrder() {
+        List<Solution> solutions = new BitmaskSolver(8).solutions();
+        SolutionStore.write(path, 8, SolutionStore.FLAG_DISTINCT | SolutionStore.FLAG_LEXICOGRAPHIC, solutions);
+
+        SolutionStore store = SolutionStore.open(path);
+        try {
+            assertEquals(8, store.getSize());
+            assertEquals(92, store.count());
+            assertEquals(SolutionStore.FLAG_DISTINCT | SolutionStore.FLAG_LEXICOGRAPHIC, store.getFlags());
+
+            List<Solution> stored = new LinkedList<Solution>();
+            for(Solution solution : store) {
+                stored.add(solution);
+            }
+            assertEquals(solutions, stored);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void
+    recordsArePackedToFixedWidth() throws IOException {
+        SolutionStore.write(path, 8, 0, new BitmaskSolver(8).solutions());
+
+        assertEquals(32 + 92 * 3, Files.size(path));
+    }
+
+    @Test
+    public void
+    fetchesSolutionByIndex() {
+        List<Solution> solutions = new BitmaskSolver(11).solutions();
+        SolutionStore.write(path, 11, 0, solutions);
+
+        SolutionStore store = SolutionStore.open(path);
+        try {
+            assertEquals(solutions.get(0), store.get(0));
+            assertEquals(solutions.get(1337), store.get(1337));
+            assertEquals(solutions.get(2679), store.get(2679));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void
+    readsRowsWithoutAllocatingSolutions() {
+        SolutionStore.write(path, 8, 0, new BitmaskSolver(8).solutions());
+
+        SolutionStore store = SolutionStore.open(path);
+        try {
+            int[] rows = new int[8];
+            store.read(0, rows);
+            assertEquals(0, rows[0]);
+            assertEquals(4, rows[1]);
+            assertEquals(3, rows[7]);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void
+    storesRowsSpanningBytesOfLargerBoards() {
+        SolutionStoreWriter writer = new SolutionStoreWriter(path, 17, 0);
+        List<Solution> written = new LinkedList<Solution>();
+        SolutionIterator iterator = new SolutionIterator(17);
+        for(int i = 0; i < 1000; i++) {
+            Solution solution = iterator.next();
+            written.add(solution);
+            writer.write(solution);
+        }
+        writer.close();
+
+        SolutionStore store = SolutionStore.open(path);
+        try {
+            assertEquals(1000, store.count());
+            assertEquals(written.get(999), store.get(999));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void
+    storesBoardSize64() {
+        int[] rows = new int[64];
+        for(int i = 0; i < 64; i++) {
+            rows[i] = 63 - i;
+        }
+        SolutionStoreWriter writer = new SolutionStoreWriter(path, 64, 0);
+        writer.write(rows);
+        writer.close();
+
+        SolutionStore store = SolutionStore.open(path);
+        try {
+            int[] read = new int[64];
+            store.read(0, read);
+            assertTrue(Arrays.equals(rows, read));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void
+    cannotFetchPastTheCount() {
+        SolutionStore.write(path, 6, 0, new BitmaskSolver(6).solutions());
+
+        SolutionStore store = SolutionStore.open(path);
+        try {
+            store.get(4);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test(expected = SolutionStoreException.class)
+    public void
+    cannotOpenFileOtherThanStore() throws IOException {
+        Files.write(path, new byte[64]);
+
+        SolutionStore.open(path);
+    }
+}
@@ -0,0 +1,83 @@
+package general;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+/**
+ * Measures the bytes the current thread allocates in a piece of code, with the per-thread counters
+ * of the HotSpot ThreadMXBean, and checks them against the budgets in allocation-budgets.properties.
+ */
+public class AllocationMeter {
+    private static final String BUDGETS = "/allocation-budgets.properties";
+    private static final int WARMUP = 200;
+    private static final int RUNS = 5;
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final Properties budgets = new Properties();
+    private final long overhead;
+
+    public AllocationMeter() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        try {
+            InputStream in = AllocationMeter.class.getResourceAsStream(BUDGETS);
+            try {
+                budgets.load(in);
+            } finally {
+                in.close();
+            }
+        } catch(IOException e) {
+            throw new IllegalStateException("cannot read " + BUDGETS, e);
+        }
+        overhead = measure(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }, 0);
+    }
+
+    public boolean isSupported() {
+        return threads.isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * The fewest bytes allocated by one run of the code, after it has been warmed up.
+     */
+    public long measure(Runnable code) {
+        return Math.max(0, measure(code, overhead));
+    }
+
+    private long measure(Runnable code, long overhead) {
+        long id = Thread.currentThread().getId();
+        for(int i = 0; i < WARMUP; i++) {
+            code.run();
+        }
+        long fewest = Long.MAX_VALUE;
+        for(int i = 0; i < RUNS; i++) {
+            long before = threads.getThreadAllocatedBytes(id);
+            code.run();
+            fewest = Math.min(fewest, threads.getThreadAllocatedBytes(id) - before - overhead);
+        }
+        return fewest;
+    }
+
+    public long budget(String key, int size) {
+        String budget = budgets.getProperty(key + "." + size);
+        if(budget == null) {
+            throw new IllegalArgumentException("no allocation budget for " + key + " at N=" + size);
+        }
+        return Long.parseLong(budget.trim());
+    }
+
+    /**
+     * Measures the code and reports the bytes; returns whether they are within the budget for N.
+     */
+    public boolean withinBudget(String key, int size, Runnable code) {
+        long bytes = measure(code);
+        long budget = budget(key, size);
+        System.out.println("allocation " + key + " N=" + size + ": " + bytes + " bytes, budget " + budget);
+        return bytes <= budget;
+    }
+}